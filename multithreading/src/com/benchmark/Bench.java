@@ -0,0 +1,244 @@
+package com.benchmark;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+// chhota sa benchmark harness (JMH ki jagah, kyunki is folder ka koi build file nahi hai)
+// har thread fixed number of operations chalata hai:
+//   1) warm-up ops (JIT ke liye, record nahi hote)
+//   2) measured ops, har op ka latency histogram mein jata hai
+// saath mein allocation (bytes per thread) aur GC count/time bhi nikalte hai
+public final class Bench {
+
+    @FunctionalInterface
+    public interface Op {
+        // threadIndex se thread apna role chun sakta hai (jaise producer/consumer)
+        void run(int threadIndex) throws Exception;
+    }
+
+    public static final class Config {
+
+        final int maxThreads;
+
+        final int warmupOps;
+
+        final int measureOps;
+
+        public Config(int maxThreads, int warmupOps, int measureOps) {
+            if (maxThreads <= 0 || warmupOps < 0 || measureOps <= 0) {
+                throw new IllegalArgumentException("invalid bench config");
+            }
+            this.maxThreads = maxThreads;
+            this.warmupOps = warmupOps;
+            this.measureOps = measureOps;
+        }
+
+        // args: [maxThreads] [warmupOps] [measureOps]
+        public static Config fromArgs(String[] args, int offset) {
+            int maxThreads = args.length > offset ? Integer.parseInt(args[offset])
+                    : Runtime.getRuntime().availableProcessors();
+            int warmup = args.length > offset + 1 ? Integer.parseInt(args[offset + 1]) : 20_000;
+            int measure = args.length > offset + 2 ? Integer.parseInt(args[offset + 2]) : 100_000;
+            return new Config(maxThreads, warmup, measure);
+        }
+
+        public int maxThreads() {
+            return maxThreads;
+        }
+
+        public int warmupOps() {
+            return warmupOps;
+        }
+
+        public int measureOps() {
+            return measureOps;
+        }
+
+        // 1, 2, 4, ... maxThreads
+        public List<Integer> threadCounts() {
+            List<Integer> counts = new ArrayList<>();
+            for (int t = 1; t < maxThreads; t <<= 1) {
+                counts.add(t);
+            }
+            counts.add(maxThreads);
+            return counts;
+        }
+    }
+
+    public static final class Result {
+
+        public final String name;
+
+        public final int threads;
+
+        public final long ops;
+
+        public final long elapsedNanos;
+
+        public final LatencyHistogram latency;
+
+        public final long allocatedBytes;
+
+        public final long gcCount;
+
+        public final long gcTimeMillis;
+
+        Result(String name, int threads, long ops, long elapsedNanos, LatencyHistogram latency,
+                long allocatedBytes, long gcCount, long gcTimeMillis) {
+            this.name = name;
+            this.threads = threads;
+            this.ops = ops;
+            this.elapsedNanos = elapsedNanos;
+            this.latency = latency;
+            this.allocatedBytes = allocatedBytes;
+            this.gcCount = gcCount;
+            this.gcTimeMillis = gcTimeMillis;
+        }
+
+        public double opsPerSecond() {
+            return ops * 1e9 / elapsedNanos;
+        }
+
+        public double allocationBytesPerSecond() {
+            return allocatedBytes < 0 ? -1 : allocatedBytes * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%-40s thr=%-3d %,14.0f ops/s  avg=%,8.0fns p50=%,8dns p99=%,9dns p99.9=%,10dns"
+                            + "  alloc=%,.1f MB/s gc=%d (%d ms)",
+                    name, threads, opsPerSecond(), latency.mean(), latency.percentile(50),
+                    latency.percentile(99), latency.percentile(99.9), allocationBytesPerSecond() / (1024 * 1024),
+                    gcCount, gcTimeMillis);
+        }
+
+        public String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"name\":\"%s\",\"threads\":%d,\"ops\":%d,\"elapsedNanos\":%d,\"opsPerSecond\":%.1f,"
+                            + "\"latencyNanos\":{\"mean\":%.1f,\"p50\":%d,\"p90\":%d,\"p99\":%d,\"p999\":%d,\"max\":%d},"
+                            + "\"allocatedBytes\":%d,\"allocationBytesPerSecond\":%.1f,\"gcCount\":%d,\"gcTimeMillis\":%d}",
+                    name.replace("\\", "\\\\").replace("\"", "\\\""), threads, ops, elapsedNanos, opsPerSecond(),
+                    latency.mean(), latency.percentile(50), latency.percentile(90), latency.percentile(99),
+                    latency.percentile(99.9), latency.max(), allocatedBytes, allocationBytesPerSecond(), gcCount,
+                    gcTimeMillis);
+        }
+    }
+
+    private Bench() {
+    }
+
+    public static Result run(String name, int threads, Config config, Op op) throws InterruptedException {
+        return run(name, threads, config.warmupOps, config.measureOps, op);
+    }
+
+    public static Result run(String name, int threads, int warmupOps, int measureOps, Op op)
+            throws InterruptedException {
+        LatencyHistogram latency = new LatencyHistogram();
+        long[] allocated = new long[threads];
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch warmedUp = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            workers[t] = new Thread(() -> {
+                // har thread ka apna histogram, end mein merge -> record pe contention nahi
+                LatencyHistogram local = new LatencyHistogram();
+                try {
+                    for (int i = 0; i < warmupOps; i++) {
+                        op.run(index);
+                    }
+                    warmedUp.countDown();
+                    go.await();
+                    long allocBefore = threadAllocatedBytes();
+                    for (int i = 0; i < measureOps; i++) {
+                        long start = System.nanoTime();
+                        op.run(index);
+                        local.record(System.nanoTime() - start);
+                    }
+                    long allocAfter = threadAllocatedBytes();
+                    allocated[index] = allocBefore < 0 ? -1 : allocAfter - allocBefore;
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                    warmedUp.countDown();
+                } finally {
+                    latency.add(local);
+                }
+            }, name + "-" + t);
+        }
+
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        warmedUp.await();
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTimeMillis();
+        long start = System.nanoTime();
+        go.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (failure.get() != null) {
+            throw new IllegalStateException(name + " failed", failure.get());
+        }
+        long totalAllocated = 0;
+        for (long a : allocated) {
+            if (a < 0) {
+                totalAllocated = -1;
+                break;
+            }
+            totalAllocated += a;
+        }
+        return new Result(name, threads, (long) threads * measureOps, elapsed, latency, totalAllocated,
+                gcCount() - gcCountBefore, gcTimeMillis() - gcTimeBefore);
+    }
+
+    public static void writeJson(Path path, List<Result> results) throws IOException {
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < results.size(); i++) {
+            json.append("  ").append(results.get(i).toJson());
+            json.append(i + 1 < results.size() ? ",\n" : "\n");
+        }
+        json.append("]\n");
+        Files.writeString(path, json);
+    }
+
+    private static long threadAllocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) bean;
+            if (hotspot.isThreadAllocatedMemorySupported() && hotspot.isThreadAllocatedMemoryEnabled()) {
+                return hotspot.getCurrentThreadAllocatedBytes();
+            }
+        }
+        return -1;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcTimeMillis() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return time;
+    }
+}
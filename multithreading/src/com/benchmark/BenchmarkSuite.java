@@ -0,0 +1,38 @@
+package com.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.communication.SharedResourceBenchmark;
+import com.locks.LedgerBenchmark;
+import com.locks.LocksBenchmark;
+import com.locks.QueueLockBenchmark;
+import com.synchronize.CounterBenchmark;
+
+// saare primitives ke benchmarks ek saath
+// java com.benchmark.BenchmarkSuite [results.json] [maxThreads] [warmupOps] [measureOps]
+// JSON file ko purane run ki file se compare karke regression pakad sakte hai
+public class BenchmarkSuite {
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        Bench.Config config = Bench.Config.fromArgs(args, 1);
+
+        List<Bench.Result> results = new ArrayList<>();
+        results.addAll(CounterBenchmark.run(config));
+        results.addAll(LocksBenchmark.run(config));
+        results.addAll(QueueLockBenchmark.run(config));
+        results.addAll(LedgerBenchmark.run(1_000_000, config));
+        results.addAll(SharedResourceBenchmark.run(config));
+
+        for (Bench.Result result : results) {
+            System.out.println(result);
+        }
+
+        if (args.length > 0) {
+            Bench.writeJson(Path.of(args[0]), results);
+            System.out.println("results written to " + args[0]);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.communication;
+
+import com.benchmark.LatencyHistogram;
+
+// java com.communication.BatchThroughput [items] [lingerMicros]
+// ek producer, ek consumer; alag alag batch size pe throughput aur handoff latency
+// batch bada -> kam synchronization, zyada items/sec; linger ke saath latency badh sakti hai
+// shared = SharedResource (wait/notify, 256 slots), har item pe monitor bahut mehenga isliye items / 10
+public class BatchThroughput {
+
+    private static final int[] BATCH_SIZES = { 1, 8, 64, 256 };
+
+    record Result(double itemsPerSecond, long p50Nanos, long p99Nanos) {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int items = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        long lingerNanos = (args.length > 1 ? Long.parseLong(args[1]) : 20) * 1_000;
+
+        // warm-up
+        run(new SpscRingBuffer(1 << 14), Math.min(items, 1_000_000), 64, lingerNanos);
+
+        System.out.printf("%-8s %6s %10s %15s %12s %12s%n", "channel", "batch", "linger", "items/sec", "p50 (ns)",
+                "p99 (ns)");
+        for (int batch : BATCH_SIZES) {
+            for (long linger : new long[] { 0, lingerNanos }) {
+                System.out.println(format("spsc", batch, linger, run(new SpscRingBuffer(1 << 14), items, batch, linger)));
+                System.out.println(format("mpmc", batch, linger, run(new MpmcQueue(1 << 14), items, batch, linger)));
+                System.out.println(format("shared", batch, linger,
+                        run(new SharedResource(false, 256), items / 10, batch, linger)));
+            }
+        }
+    }
+
+    static Result run(IntChannel channel, int items, int batchSize, long lingerNanos) throws InterruptedException {
+        long[] producedAt = new long[items];
+        LatencyHistogram latency = new LatencyHistogram();
+
+        Thread producer = new Thread(() -> {
+            int[] batch = new int[batchSize];
+            for (int i = 0; i < items; i += batchSize) {
+                int n = Math.min(batchSize, items - i);
+                long now = System.nanoTime();
+                for (int j = 0; j < n; j++) {
+                    batch[j] = i + j;
+                    producedAt[i + j] = now;
+                }
+                channel.produceBatch(batch, n);
+            }
+        }, "producer");
+
+        Thread consumer = new Thread(() -> {
+            int[] batch = new int[batchSize];
+            int consumed = 0;
+            while (consumed < items) {
+                int n = channel.consumeBatch(batch, Math.min(batchSize, items - consumed), lingerNanos);
+                long now = System.nanoTime();
+                for (int j = 0; j < n; j++) {
+                    latency.record(now - producedAt[batch[j]]);
+                }
+                consumed += n;
+            }
+        }, "consumer");
+
+        long start = System.nanoTime();
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+        long elapsed = System.nanoTime() - start;
+        return new Result(items * 1e9 / elapsed, latency.percentile(50), latency.percentile(99));
+    }
+
+    private static String format(String channel, int batch, long linger, Result result) {
+        return String.format("%-8s %6d %8dus %,15.0f %,12d %,12d", channel, batch, linger / 1_000,
+                result.itemsPerSecond(), result.p50Nanos(), result.p99Nanos());
+    }
+}
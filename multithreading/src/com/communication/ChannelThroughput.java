@@ -0,0 +1,44 @@
+package com.communication;
+
+// java com.communication.ChannelThroughput [items] [ringCapacity]
+// ek Producer aur ek Consumer ke beech items bhejte hai
+// SharedResource har item pe context switch karta hai, isliye usko items/100 pe chalate hai
+// aur dono ka items/sec compare karte hai
+public class ChannelThroughput {
+
+    public static void main(String[] args) throws InterruptedException {
+        int items = args.length > 0 ? Integer.parseInt(args[0]) : 100_000_000;
+        int capacity = args.length > 1 ? Integer.parseInt(args[1]) : 1 << 16;
+
+        // warm-up
+        run(new SpscRingBuffer(capacity), Math.min(items, 1_000_000));
+        report("SpscRingBuffer(" + capacity + ")", items, run(new SpscRingBuffer(capacity), items));
+
+        int slowItems = Math.max(1, items / 100);
+        report("SharedResource (wait/notify)", slowItems, run(new SharedResource(false), slowItems));
+    }
+
+    static long run(IntChannel channel, int items) throws InterruptedException {
+        Consumer consumer = new Consumer(channel, items);
+        Thread producerThread = new Thread(new Producer(channel, items), "producer");
+        Thread consumerThread = new Thread(consumer, "consumer");
+
+        long start = System.nanoTime();
+        producerThread.start();
+        consumerThread.start();
+        producerThread.join();
+        consumerThread.join();
+        long elapsed = System.nanoTime() - start;
+
+        long expected = (long) items * (items - 1) / 2;
+        if (consumer.getSum() != expected) {
+            throw new IllegalStateException("lost or duplicated items: sum " + consumer.getSum() + " != " + expected);
+        }
+        return elapsed;
+    }
+
+    private static void report(String name, int items, long elapsedNanos) {
+        System.out.printf("%-30s %,13d items in %,7d ms -> %,15.0f items/sec%n", name, items,
+                elapsedNanos / 1_000_000, items * 1e9 / elapsedNanos);
+    }
+}
@@ -0,0 +1,60 @@
+package com.communication;
+
+class Consumer implements Runnable {
+
+    private IntChannel resource;
+
+    private final int items;
+
+    private final int maxBatch;
+
+    private final long lingerNanos;
+
+    private long sum;
+
+    public Consumer(IntChannel resource) {
+        this(resource, 10);
+    }
+
+    public Consumer(IntChannel resource, int items) {
+        this(resource, items, 1, 0);
+    }
+
+    // maxBatch -> ek baar mein kitne tak drain kare
+    // lingerNanos -> batch bharne ke liye kitna ruk sakta hai (0 = jitna mila utna le lo)
+    public Consumer(IntChannel resource, int items, int maxBatch, long lingerNanos) {
+        if (maxBatch <= 0 || lingerNanos < 0) {
+            throw new IllegalArgumentException("maxBatch must be positive and lingerNanos non-negative");
+        }
+        this.resource = resource;
+        this.items = items;
+        this.maxBatch = maxBatch;
+        this.lingerNanos = lingerNanos;
+    }
+
+    @Override
+    public void run() {
+        if (maxBatch == 1) {
+            for (int i = 0; i < items; i++) {
+                int value = resource.consume();
+                sum += value;
+            }
+            return;
+        }
+        int[] batch = new int[maxBatch];
+        int consumed = 0;
+        while (consumed < items) {
+            int n = resource.consumeBatch(batch, Math.min(maxBatch, items - consumed), lingerNanos);
+            for (int i = 0; i < n; i++) {
+                sum += batch[i];
+            }
+            consumed += n;
+        }
+    }
+
+    // jitna consume kiya uska sum, check karne ke liye ki kuch miss to nahi hua
+    public long getSum() {
+        return sum;
+    }
+
+}
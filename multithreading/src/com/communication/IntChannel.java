@@ -0,0 +1,41 @@
+package com.communication;
+
+// Producer aur Consumer isi interface se baat karte hai
+// SharedResource (wait/notify) aur ring buffers dono isko implement karte hai
+interface IntChannel {
+
+    // jagah nahi hai to wait karta hai
+    void produce(int value);
+
+    // data nahi hai to wait karta hai
+    int consume();
+
+    // BATCH API: ek synchronization mein kai elements
+    // src ke pehle count elements bhejta hai, sab chale jaye tab tak wait karta hai
+    void produceBatch(int[] src, int count);
+
+    // kam se kam ek element aane tak wait, phir jitne available hai (max tak) dst mein
+    // return: kitne elements mile
+    int consumeBatch(int[] dst, int max);
+
+    // bina wait kiye jitne available hai (max tak) dst[offset..] mein, kuch nahi to 0
+    int drainTo(int[] dst, int offset, int max);
+
+    // consumeBatch jaisa, lekin batch poora bharne ke liye lingerNanos tak aur elements ka intezar karta hai
+    // linger zyada -> bade batch, zyada throughput, lekin pehle element ki latency badhti hai
+    default int consumeBatch(int[] dst, int max, long lingerNanos) {
+        int n = consumeBatch(dst, max);
+        if (n >= max || lingerNanos <= 0) {
+            return n;
+        }
+        long deadline = System.nanoTime() + lingerNanos;
+        while (n < max && System.nanoTime() < deadline) {
+            int drained = drainTo(dst, n, max - n);
+            if (drained == 0) {
+                Thread.onSpinWait();
+            }
+            n += drained;
+        }
+        return n;
+    }
+}
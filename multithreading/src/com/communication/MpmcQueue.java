@@ -0,0 +1,194 @@
+package com.communication;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// bounded queue, kitne bhi producers aur consumers (Dmitry Vyukov ka MPMC queue)
+// har slot ka apna sequence number hai:
+//   sequence == pos        -> slot khali, producer pos pe likh sakta hai
+//   sequence == pos + 1    -> slot bhara, consumer pos se padh sakta hai
+// producers enqueuePos pe CAS karke slot claim karte hai, consumers dequeuePos pe
+// isliye koi lock nahi aur notify() se galat thread jagne wali problem bhi nahi
+class MpmcQueue implements IntChannel {
+
+    private static final long EMPTY = -1L;
+
+    private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] sequences;
+
+    private final int[] values;
+
+    private final int mask;
+
+    private final Sequence enqueuePos = new Sequence(0);
+
+    private final Sequence dequeuePos = new Sequence(0);
+
+    MpmcQueue(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two >= 2: " + capacity);
+        }
+        sequences = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    boolean offer(int value) {
+        while (true) {
+            long pos = enqueuePos.get();
+            int index = (int) pos & mask;
+            long seq = (long) SEQUENCES.getAcquire(sequences, index);
+            long diff = seq - pos;
+            if (diff == 0) {
+                if (enqueuePos.compareAndSet(pos, pos + 1)) {
+                    values[index] = value;
+                    // release: value pehle, phir slot "bhara" mark
+                    SEQUENCES.setRelease(sequences, index, pos + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                // slot abhi tak consume nahi hua -> queue full
+                return false;
+            }
+            // kisi aur producer ne ye pos le liya, dobara try
+        }
+    }
+
+    boolean poll(int[] out) {
+        long raw = pollRaw();
+        if (raw == EMPTY) {
+            return false;
+        }
+        out[0] = (int) raw;
+        return true;
+    }
+
+    // khali ho to EMPTY, vrna value ke 32 bits (unsigned) -> consume() mein koi allocation nahi
+    private long pollRaw() {
+        while (true) {
+            long pos = dequeuePos.get();
+            int index = (int) pos & mask;
+            long seq = (long) SEQUENCES.getAcquire(sequences, index);
+            long diff = seq - (pos + 1);
+            if (diff == 0) {
+                if (dequeuePos.compareAndSet(pos, pos + 1)) {
+                    int value = values[index];
+                    // slot ko agle round (pos + capacity) ke producer ke liye khali mark karo
+                    SEQUENCES.setRelease(sequences, index, pos + mask + 1);
+                    return value & 0xFFFFFFFFL;
+                }
+            } else if (diff < 0) {
+                // queue khali
+                return EMPTY;
+            }
+        }
+    }
+
+    @Override
+    public void produce(int value) {
+        int idle = 0;
+        while (!offer(value)) {
+            idle = SpscRingBuffer.backoff(idle);
+        }
+    }
+
+    @Override
+    public int consume() {
+        int idle = 0;
+        long raw;
+        while ((raw = pollRaw()) == EMPTY) {
+            idle = SpscRingBuffer.backoff(idle);
+        }
+        return (int) raw;
+    }
+
+    // pos se lagataar jitne slots khali hai (max tak) unko ek hi CAS se claim karta hai
+    int offerBatch(int[] src, int offset, int max) {
+        while (true) {
+            long pos = enqueuePos.get();
+            int n = 0;
+            while (n < max && (long) SEQUENCES.getAcquire(sequences, (int) (pos + n) & mask) == pos + n) {
+                n++;
+            }
+            if (n == 0) {
+                long seq = (long) SEQUENCES.getAcquire(sequences, (int) pos & mask);
+                if (seq < pos) {
+                    return 0;
+                }
+                continue;
+            }
+            if (enqueuePos.compareAndSet(pos, pos + n)) {
+                for (int i = 0; i < n; i++) {
+                    int index = (int) (pos + i) & mask;
+                    values[index] = src[offset + i];
+                    SEQUENCES.setRelease(sequences, index, pos + i + 1);
+                }
+                return n;
+            }
+        }
+    }
+
+    @Override
+    public void produceBatch(int[] src, int count) {
+        int sent = 0;
+        int idle = 0;
+        while (sent < count) {
+            int n = offerBatch(src, sent, count - sent);
+            if (n == 0) {
+                idle = SpscRingBuffer.backoff(idle);
+            } else {
+                sent += n;
+                idle = 0;
+            }
+        }
+    }
+
+    @Override
+    public int consumeBatch(int[] dst, int max) {
+        int idle = 0;
+        int n;
+        while ((n = drainTo(dst, 0, max)) == 0) {
+            idle = SpscRingBuffer.backoff(idle);
+        }
+        return n;
+    }
+
+    @Override
+    public int drainTo(int[] dst, int offset, int max) {
+        while (true) {
+            long pos = dequeuePos.get();
+            int n = 0;
+            while (n < max && (long) SEQUENCES.getAcquire(sequences, (int) (pos + n) & mask) == pos + n + 1) {
+                n++;
+            }
+            if (n == 0) {
+                long seq = (long) SEQUENCES.getAcquire(sequences, (int) pos & mask);
+                if (seq < pos + 1) {
+                    return 0;
+                }
+                continue;
+            }
+            if (dequeuePos.compareAndSet(pos, pos + n)) {
+                for (int i = 0; i < n; i++) {
+                    int index = (int) (pos + i) & mask;
+                    dst[offset + i] = values[index];
+                    SEQUENCES.setRelease(sequences, index, pos + i + mask + 1);
+                }
+                return n;
+            }
+        }
+    }
+
+    int size() {
+        long size = enqueuePos.get() - dequeuePos.get();
+        return (int) Math.max(0, Math.min(size, values.length));
+    }
+
+    int capacity() {
+        return values.length;
+    }
+}
@@ -0,0 +1,86 @@
+package com.communication;
+
+import java.util.concurrent.CountDownLatch;
+
+import com.benchmark.LatencyHistogram;
+
+// java com.communication.MpmcScaling [itemsPerRun] [capacity]
+// 1x1, 2x2, 4x4, 8x8, 16x16 producers x consumers ek hi MpmcQueue pe
+// total items/sec aur handoff latency (produce se consume tak) ka p99
+public class MpmcScaling {
+
+    public static void main(String[] args) throws InterruptedException {
+        int items = args.length > 0 ? Integer.parseInt(args[0]) : 4_000_000;
+        int capacity = args.length > 1 ? Integer.parseInt(args[1]) : 1 << 14;
+
+        // warm-up
+        run(2, 2, Math.min(items, 1_000_000), capacity);
+        System.out.printf("%-8s %15s %12s %12s%n", "PxC", "items/sec", "p50 (ns)", "p99 (ns)");
+        for (int threads = 1; threads <= 16; threads <<= 1) {
+            System.out.println(run(threads, threads, items, capacity));
+        }
+    }
+
+    static String run(int producers, int consumers, int totalItems, int capacity) throws InterruptedException {
+        MpmcQueue queue = new MpmcQueue(capacity);
+        int perProducer = totalItems / producers;
+        int items = perProducer * producers;
+        // item id -> produce hone ka time; queue ka release/acquire isko consumer tak safely pahunchata hai
+        long[] producedAt = new long[items];
+        LatencyHistogram[] histograms = new LatencyHistogram[consumers];
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers + consumers];
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            threads[p] = new Thread(() -> {
+                await(start);
+                for (int i = 0; i < perProducer; i++) {
+                    int id = base + i;
+                    producedAt[id] = System.nanoTime();
+                    queue.produce(id);
+                }
+            }, "producer-" + p);
+        }
+        for (int c = 0; c < consumers; c++) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histograms[c] = histogram;
+            int share = items / consumers + (c < items % consumers ? 1 : 0);
+            threads[producers + c] = new Thread(() -> {
+                await(start);
+                for (int i = 0; i < share; i++) {
+                    int id = queue.consume();
+                    histogram.record(System.nanoTime() - producedAt[id]);
+                }
+            }, "consumer-" + c);
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        LatencyHistogram total = new LatencyHistogram();
+        for (LatencyHistogram histogram : histograms) {
+            total.add(histogram);
+        }
+        if (total.count() != items) {
+            throw new IllegalStateException("expected " + items + " handoffs but saw " + total.count());
+        }
+        return String.format("%-8s %,15.0f %,12d %,12d", producers + "x" + consumers, items * 1e9 / elapsed,
+                total.percentile(50), total.percentile(99));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
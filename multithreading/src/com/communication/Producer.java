@@ -0,0 +1,77 @@
+package com.communication;
+
+class Producer implements Runnable {
+
+    private IntChannel resource;
+
+    private final int items;
+
+    private final int batchSize;
+
+    // null -> jitna tez ho sake
+    private final RateLimiter limiter;
+
+    public Producer(IntChannel resource) {
+        this(resource, 10);
+    }
+
+    public Producer(IntChannel resource, int items) {
+        this(resource, items, 1);
+    }
+
+    // batchSize > 1 -> produceBatch se ek saath bhejta hai
+    public Producer(IntChannel resource, int items, int batchSize) {
+        this(resource, items, batchSize, null);
+    }
+
+    // limiter se har item / batch ke permits, tab hi channel mein bhejta hai
+    // permits nahi mile to channel pe block nahi hota, sirf backoff karke dobara try
+    public Producer(IntChannel resource, int items, int batchSize, RateLimiter limiter) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.resource = resource;
+        this.items = items;
+        this.batchSize = batchSize;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void run() {
+        if (batchSize == 1) {
+            for (int i = 0; i < items; i++) {
+                acquire(1);
+                resource.produce(i);
+            }
+            return;
+        }
+        int[] batch = new int[batchSize];
+        for (int i = 0; i < items; i += batchSize) {
+            int n = Math.min(batchSize, items - i);
+            for (int j = 0; j < n; j++) {
+                batch[j] = i + j;
+            }
+            acquire(n);
+            resource.produceBatch(batch, n);
+        }
+    }
+
+    // batch ek saath nahi maangte: tryAcquire(permits) burst se bada ho to phenk deta hai (aur kam rate pe
+    // burst chhota hota hai), isliye jitne mile utne le ke baaki ka wait
+    private void acquire(int permits) {
+        if (limiter == null) {
+            return;
+        }
+        int idle = 0;
+        while (permits > 0) {
+            int granted = limiter.tryAcquireUpTo(permits);
+            if (granted > 0) {
+                permits -= granted;
+                idle = 0;
+            } else {
+                idle = SpscRingBuffer.backoff(idle);
+            }
+        }
+    }
+
+}
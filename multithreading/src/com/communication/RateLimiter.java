@@ -0,0 +1,17 @@
+package com.communication;
+
+// Producer ko target rate ke neeche rakhne ke liye
+// dono methods non-blocking hai: permits nahi hai to turant false / 0, caller khud decide kare ki
+// backoff kare, kuch aur kaam kare, ya item chhod de
+public interface RateLimiter {
+
+    // saare permits mile to true, warna ek bhi nahi liya aur false
+    boolean tryAcquire(int permits);
+
+    default boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    // jitne available hai (max tak) le leta hai; return: kitne mile (0 bhi ho sakta hai)
+    int tryAcquireUpTo(int max);
+}
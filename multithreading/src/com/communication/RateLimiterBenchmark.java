@@ -0,0 +1,143 @@
+package com.communication;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleFunction;
+
+import com.benchmark.Bench;
+
+// java com.communication.RateLimiterBenchmark [threads] [permitsPerSecond] [seconds]
+//
+// 1) overhead: tryAcquire() ka kharcha jab limit kabhi hit nahi hoti (1..threads threads)
+// 2) accuracy: threads lagataar tryAcquire(1) karte hai, target rate (default 1M/s) pe
+//    asal rate kitna raha aur har 100 ms slot mein min/max kitna tha
+// 3) Producer -> MpmcQueue -> Consumer, Producer limiter ke saath: items ko target rate pe kitna time laga
+// 4) kam rate (burst < batch) pe bhi Producer(batch 16) poora chale: producer mare ya atke to exception
+public class RateLimiterBenchmark {
+
+    private static final long SLOT_NANOS = 100_000_000L;
+
+    static Map<String, DoubleFunction<RateLimiter>> limiters() {
+        Map<String, DoubleFunction<RateLimiter>> limiters = new LinkedHashMap<>();
+        for (RateLimiters.Kind kind : RateLimiters.Kind.values()) {
+            limiters.put(kind.toString(), rate -> RateLimiters.create(kind, rate));
+            limiters.put(kind + "+batch64", rate -> RateLimiters.batching(RateLimiters.create(kind, rate), 64));
+        }
+        return limiters;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        double rate = args.length > 1 ? Double.parseDouble(args[1]) : 1_000_000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+
+        System.out.println("overhead (limit never reached):");
+        Bench.Config config = new Bench.Config(threads, 200_000, 1_000_000);
+        for (int t : config.threadCounts()) {
+            for (Map.Entry<String, DoubleFunction<RateLimiter>> entry : limiters().entrySet()) {
+                RateLimiter limiter = entry.getValue().apply(1e12);
+                System.out.println(Bench.run(entry.getKey(), t, config, index -> limiter.tryAcquire()));
+            }
+        }
+
+        System.out.printf("%naccuracy at %,.0f permits/s, %d threads, %d s:%n", rate, threads, seconds);
+        System.out.printf("%-28s %14s %9s %14s %14s%n", "limiter", "permits/s", "error", "min/100ms", "max/100ms");
+        for (Map.Entry<String, DoubleFunction<RateLimiter>> entry : limiters().entrySet()) {
+            accuracy(entry.getKey(), entry.getValue().apply(rate), threads, seconds, rate);
+        }
+
+        int items = (int) Math.min(Integer.MAX_VALUE, rate * seconds);
+        System.out.printf("%nProducer -> MpmcQueue -> Consumer, %,d items at %,.0f permits/s (ideal %d s):%n", items,
+                rate, seconds);
+        for (Map.Entry<String, DoubleFunction<RateLimiter>> entry : limiters().entrySet()) {
+            MpmcQueue queue = new MpmcQueue(1 << 14);
+            Thread producer = new Thread(new Producer(queue, items, 16, entry.getValue().apply(rate)));
+            Thread consumer = new Thread(new Consumer(queue, items, 256, 0));
+            long start = System.nanoTime();
+            producer.start();
+            consumer.start();
+            producer.join();
+            consumer.join();
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%-28s %8.3f s %,14.0f items/s%n", entry.getKey(), elapsed, items / elapsed);
+        }
+
+        System.out.printf("%nlow rates, Producer batch 16:%n");
+        for (double lowRate : new double[] { 100, 1000 }) {
+            for (Map.Entry<String, DoubleFunction<RateLimiter>> entry : limiters().entrySet()) {
+                lowRate(entry.getKey(), entry.getValue().apply(lowRate), lowRate);
+            }
+        }
+    }
+
+    // rate ka aadha second bhar items; 16 ka batch burst/window limit se bada hai
+    static void lowRate(String name, RateLimiter limiter, double rate) throws InterruptedException {
+        int items = (int) (rate / 2);
+        MpmcQueue queue = new MpmcQueue(1 << 10);
+        Throwable[] failure = new Throwable[1];
+        Thread producer = new Thread(new Producer(queue, items, 16, limiter));
+        producer.setUncaughtExceptionHandler((thread, e) -> failure[0] = e);
+        producer.setDaemon(true);
+        Thread consumer = new Thread(new Consumer(queue, items, 16, 0));
+        consumer.setDaemon(true);
+        long start = System.nanoTime();
+        producer.start();
+        consumer.start();
+        producer.join(10_000);
+        consumer.join(10_000);
+        if (failure[0] != null) {
+            throw new IllegalStateException(name + " at " + rate + "/s: producer died", failure[0]);
+        }
+        if (producer.isAlive() || consumer.isAlive()) {
+            throw new IllegalStateException(name + " at " + rate + "/s: did not finish " + items + " items");
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-28s %,6.0f/s %,6d items %8.3f s %,10.0f items/s%n", name, rate, items, elapsed,
+                items / elapsed);
+    }
+
+    static void accuracy(String name, RateLimiter limiter, int threads, int seconds, double rate)
+            throws InterruptedException {
+        int slots = seconds * (int) (1_000_000_000L / SLOT_NANOS);
+        List<long[]> perThread = new ArrayList<>();
+        Thread[] workers = new Thread[threads];
+        long start = System.nanoTime();
+        long end = start + slots * SLOT_NANOS;
+        for (int t = 0; t < threads; t++) {
+            long[] granted = new long[slots];
+            perThread.add(granted);
+            workers[t] = new Thread(() -> {
+                long now;
+                while ((now = System.nanoTime()) < end) {
+                    if (limiter.tryAcquire()) {
+                        granted[(int) ((now - start) / SLOT_NANOS)]++;
+                    } else {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        long total = 0;
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (int s = 0; s < slots; s++) {
+            long slot = 0;
+            for (long[] granted : perThread) {
+                slot += granted[s];
+            }
+            total += slot;
+            min = Math.min(min, slot);
+            max = Math.max(max, slot);
+        }
+        double achieved = total * 1e9 / (slots * SLOT_NANOS);
+        System.out.printf("%-28s %,14.0f %8.2f%% %,14d %,14d%n", name, achieved, 100 * (achieved - rate) / rate, min,
+                max);
+    }
+}
@@ -0,0 +1,233 @@
+package com.communication;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// lock-free RateLimiter implementations
+//
+// TOKEN_BUCKET   -> ek AtomicLong mein "bucket kab khaali tha" ka time (GCRA jaisa)
+//                   tokens = (now - emptyAt) / interval, burst tak; acquire = emptyAt ko aage CAS karna
+//                   refill ke liye koi timer thread nahi, sab kuch ek CAS mein
+// SLIDING_WINDOW -> fixed windows ke counters; limit check pichhli window ke count ko
+//                   bache hue hisse ke hisaab se weight karke (current + previous * overlap)
+//                   rollover pe naya Window object CAS hota hai
+//
+// batching(limiter, batch): har thread shared limiter se ek saath batch permits le ke apne paas rakhta hai,
+// phir item ke liye sirf thread-local count ghatata hai -> shared CAS batch mein ek baar
+// kimat: har thread ke paas batch tak permits pade reh sakte hai (threads * batch tak extra burst)
+public final class RateLimiters {
+
+    public enum Kind {
+        TOKEN_BUCKET, SLIDING_WINDOW
+    }
+
+    private RateLimiters() {
+    }
+
+    // burst = 10 ms ke permits, window = 100 ms
+    public static RateLimiter create(Kind kind, double permitsPerSecond) {
+        switch (kind) {
+            case TOKEN_BUCKET:
+                return new TokenBucket(permitsPerSecond, (int) Math.max(1, permitsPerSecond / 100));
+            case SLIDING_WINDOW:
+                return new SlidingWindow(permitsPerSecond, 100, TimeUnit.MILLISECONDS);
+            default:
+                throw new IllegalArgumentException("unknown rate limiter " + kind);
+        }
+    }
+
+    public static RateLimiter batching(RateLimiter shared, int batch) {
+        return new Batching(shared, batch);
+    }
+
+    static final class TokenBucket implements RateLimiter {
+
+        private final double intervalNanos;
+
+        private final int burst;
+
+        private final long burstNanos;
+
+        // is time pe bucket khaali tha; now - burstNanos se peeche ho to bucket bhara hua hai
+        private final AtomicLong emptyAt;
+
+        TokenBucket(double permitsPerSecond, int burst) {
+            if (permitsPerSecond <= 0 || burst <= 0) {
+                throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+            }
+            this.intervalNanos = 1e9 / permitsPerSecond;
+            this.burst = burst;
+            this.burstNanos = Math.round(burst * intervalNanos);
+            this.emptyAt = new AtomicLong(System.nanoTime() - burstNanos);
+        }
+
+        @Override
+        public boolean tryAcquire(int permits) {
+            if (permits <= 0 || permits > burst) {
+                throw new IllegalArgumentException("permits must be in 1.." + burst + ": " + permits);
+            }
+            long cost = Math.round(permits * intervalNanos);
+            while (true) {
+                long now = System.nanoTime();
+                long current = emptyAt.get();
+                long base = Math.max(current, now - burstNanos);
+                if (base + cost - now > 0) {
+                    return false;
+                }
+                if (emptyAt.compareAndSet(current, base + cost)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public int tryAcquireUpTo(int max) {
+            while (true) {
+                long now = System.nanoTime();
+                long current = emptyAt.get();
+                long base = Math.max(current, now - burstNanos);
+                int n = (int) Math.min(max, (long) ((now - base) / intervalNanos));
+                if (n <= 0) {
+                    return 0;
+                }
+                if (emptyAt.compareAndSet(current, base + Math.round(n * intervalNanos))) {
+                    return n;
+                }
+            }
+        }
+    }
+
+    static final class SlidingWindow implements RateLimiter {
+
+        private static final class Window {
+
+            final long start;
+
+            // pichhli window mein kitne permits gaye
+            final long previous;
+
+            final AtomicLong count = new AtomicLong();
+
+            Window(long start, long previous) {
+                this.start = start;
+                this.previous = previous;
+            }
+        }
+
+        private final long windowNanos;
+
+        private final long limit;
+
+        private final AtomicReference<Window> current;
+
+        SlidingWindow(double permitsPerSecond, long window, TimeUnit unit) {
+            if (permitsPerSecond <= 0 || window <= 0) {
+                throw new IllegalArgumentException("permitsPerSecond and window must be positive");
+            }
+            this.windowNanos = unit.toNanos(window);
+            this.limit = Math.max(1, Math.round(permitsPerSecond * windowNanos / 1e9));
+            this.current = new AtomicReference<>(new Window(System.nanoTime(), 0));
+        }
+
+        @Override
+        public boolean tryAcquire(int permits) {
+            if (permits <= 0 || permits > limit) {
+                throw new IllegalArgumentException("permits must be in 1.." + limit + ": " + permits);
+            }
+            return acquire(permits, permits) > 0;
+        }
+
+        @Override
+        public int tryAcquireUpTo(int max) {
+            return max <= 0 ? 0 : acquire(1, max);
+        }
+
+        // kam se kam min, zyada se zyada max permits; min bhi na mile to 0
+        private int acquire(int min, int max) {
+            while (true) {
+                long now = System.nanoTime();
+                Window window = window(now);
+                long elapsed = Math.max(0, now - window.start);
+                long weightedPrevious = (long) (window.previous * (double) (windowNanos - elapsed) / windowNanos);
+                long used = window.count.get();
+                long available = limit - weightedPrevious - used;
+                if (available < min) {
+                    return 0;
+                }
+                int n = (int) Math.min(max, available);
+                if (window.count.compareAndSet(used, used + n)) {
+                    // CAS ke beech window roll ho gayi to naye Window ka previous ye permits nahi ginta
+                    // -> wapas karo aur nayi window pe dobara (wapas kiye permits previous mein gine gaye ho
+                    // to bas thoda kam admit hoga, zyada nahi)
+                    if (current.get() == window) {
+                        return n;
+                    }
+                    window.count.addAndGet(-n);
+                }
+            }
+        }
+
+        private Window window(long now) {
+            while (true) {
+                Window window = current.get();
+                long elapsed = now - window.start;
+                if (elapsed < windowNanos) {
+                    return window;
+                }
+                long windows = elapsed / windowNanos;
+                // beech mein poori khaali window nikal gayi to previous 0
+                long previous = windows == 1 ? window.count.get() : 0;
+                Window next = new Window(window.start + windows * windowNanos, previous);
+                if (current.compareAndSet(window, next)) {
+                    return next;
+                }
+            }
+        }
+    }
+
+    static final class Batching implements RateLimiter {
+
+        private final RateLimiter shared;
+
+        private final int batch;
+
+        // is thread ke paas pehle se liye hue permits
+        private final ThreadLocal<int[]> cached = ThreadLocal.withInitial(() -> new int[1]);
+
+        Batching(RateLimiter shared, int batch) {
+            if (batch <= 0) {
+                throw new IllegalArgumentException("batch must be positive: " + batch);
+            }
+            this.shared = shared;
+            this.batch = batch;
+        }
+
+        @Override
+        public boolean tryAcquire(int permits) {
+            if (permits <= 0) {
+                throw new IllegalArgumentException("permits must be positive: " + permits);
+            }
+            int[] local = cached.get();
+            if (local[0] < permits) {
+                local[0] += shared.tryAcquireUpTo(Math.max(batch, permits - local[0]));
+                if (local[0] < permits) {
+                    return false;
+                }
+            }
+            local[0] -= permits;
+            return true;
+        }
+
+        @Override
+        public int tryAcquireUpTo(int max) {
+            int[] local = cached.get();
+            if (local[0] == 0) {
+                local[0] = shared.tryAcquireUpTo(batch);
+            }
+            int n = Math.min(max, local[0]);
+            local[0] -= n;
+            return n;
+        }
+    }
+}
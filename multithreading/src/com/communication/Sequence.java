@@ -0,0 +1,47 @@
+package com.communication;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// ek long counter jo apni alag cache line pe rehta hai
+// producer ka tail aur consumer ka head agar ek hi cache line mein ho to
+// dono cores ek dusre ki line invalidate karte rehte hai (false sharing)
+class SequenceLhsPadding {
+    long p01, p02, p03, p04, p05, p06, p07;
+}
+
+class SequenceValue extends SequenceLhsPadding {
+    volatile long value;
+}
+
+final class Sequence extends SequenceValue {
+
+    long p11, p12, p13, p14, p15, p16, p17;
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    Sequence(long initial) {
+        VALUE.setRelease(this, initial);
+    }
+
+    long get() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    // sirf ek thread likhta ho tab, full volatile write (StoreLoad fence) ki zaroorat nahi
+    void setRelease(long v) {
+        VALUE.setRelease(this, v);
+    }
+
+    boolean compareAndSet(long expected, long v) {
+        return VALUE.compareAndSet(this, expected, v);
+    }
+}
@@ -0,0 +1,137 @@
+package com.communication;
+
+import com.logging.AsyncLogger;
+
+// wait/notify wala channel; default ek hi slot (produce -> consume -> produce ...)
+// capacity > 1 do to utne items ek saath slot mein reh sakte hai, aur batch methods ek monitor acquire mein
+// jitne fit ho (ya jitne pade ho) utne ek wait/notify cycle mein bhej/le lete hai
+class SharedResource implements IntChannel {
+
+    // ring: data[head .. head + count) mein items
+    private final int[] data;
+    private int head;
+    private int count;
+
+    private final boolean verbose;
+
+    public SharedResource() {
+        this(true);
+    }
+
+    // benchmark ke liye println band kar sakte hai, vrna I/O hi measure hoga
+    public SharedResource(boolean verbose) {
+        this(verbose, 1);
+    }
+
+    public SharedResource(boolean verbose, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.verbose = verbose;
+        this.data = new int[capacity];
+    }
+
+    @Override
+    public synchronized void produce(int value) {
+        while (count == data.length) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        data[(head + count) % data.length] = value;
+        count++;
+        if (verbose) {
+            // monitor pakde hue print: async logger se lock ke andar I/O nahi hota
+            AsyncLogger.out().println("Produced: " + value);
+        }
+        notify();
+    }
+
+    @Override
+    public synchronized int consume() {
+        while (count == 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        int value = take();
+        notify();
+        if (verbose) {
+            AsyncLogger.out().println("Consumed: " + value);
+        }
+        return value;
+    }
+
+    // monitor ek baar; har wait/notify cycle mein jitni jagah hai utne items
+    @Override
+    public synchronized void produceBatch(int[] src, int count) {
+        int sent = 0;
+        while (sent < count) {
+            while (this.count == data.length) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            int n = Math.min(count - sent, data.length - this.count);
+            for (int i = 0; i < n; i++) {
+                int value = src[sent + i];
+                data[(head + this.count) % data.length] = value;
+                this.count++;
+                if (verbose) {
+                    AsyncLogger.out().println("Produced: " + value);
+                }
+            }
+            sent += n;
+            notifyAll();
+        }
+    }
+
+    @Override
+    public synchronized int consumeBatch(int[] dst, int max) {
+        if (max <= 0) {
+            return 0;
+        }
+        while (count == 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return takeInto(dst, 0, max);
+    }
+
+    @Override
+    public synchronized int drainTo(int[] dst, int offset, int max) {
+        if (count == 0 || max <= 0) {
+            return 0;
+        }
+        return takeInto(dst, offset, max);
+    }
+
+    private int takeInto(int[] dst, int offset, int max) {
+        int n = Math.min(max, count);
+        for (int i = 0; i < n; i++) {
+            dst[offset + i] = take();
+            if (verbose) {
+                AsyncLogger.out().println("Consumed: " + dst[offset + i]);
+            }
+        }
+        notifyAll();
+        return n;
+    }
+
+    private int take() {
+        int value = data[head];
+        head = (head + 1) % data.length;
+        count--;
+        return value;
+    }
+}
@@ -0,0 +1,32 @@
+package com.communication;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.benchmark.Bench;
+
+// java com.communication.SharedResourceBenchmark [maxThreads] [warmupOps] [measureOps]
+//
+// SharedResource notify() use karta hai, ek se zyada producer/consumer pe galat thread jag sakta hai
+// isliye yahan sirf 1 producer + 1 consumer (thread 0 produce, thread 1 consume)
+public class SharedResourceBenchmark {
+
+    public static List<Bench.Result> run(Bench.Config config) throws InterruptedException {
+        List<Bench.Result> results = new ArrayList<>();
+        SharedResource resource = new SharedResource(false);
+        results.add(Bench.run("SharedResource produce/consume", 2, config, index -> {
+            if (index == 0) {
+                resource.produce(index);
+            } else {
+                resource.consume();
+            }
+        }));
+        return results;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        for (Bench.Result result : run(Bench.Config.fromArgs(args, 0))) {
+            System.out.println(result);
+        }
+    }
+}
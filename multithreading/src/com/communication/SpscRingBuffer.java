@@ -0,0 +1,161 @@
+package com.communication;
+
+import java.util.concurrent.locks.LockSupport;
+
+// bounded ring buffer, sirf EK producer aur EK consumer ke liye
+// capacity power of two hai taaki index = sequence & mask (modulo ki jagah)
+// fast path mein koi lock nahi, sirf release/acquire ordering wale reads/writes
+//
+// tail -> agla slot jahan producer likhega (sirf producer badalta hai)
+// head -> agla slot jahan se consumer padhega (sirf consumer badalta hai)
+class SpscRingBuffer implements IntChannel {
+
+    private final int[] buffer;
+
+    private final int mask;
+
+    private final Sequence tail = new Sequence(0);
+
+    private final Sequence head = new Sequence(0);
+
+    // producer ke paas head ki purani copy, har baar shared head padhne ki zaroorat nahi
+    private long cachedHead;
+
+    // consumer ke paas tail ki purani copy
+    private long cachedTail;
+
+    SpscRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        buffer = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    // buffer full hai to false, wait nahi karta
+    boolean offer(int value) {
+        long t = tail.get();
+        if (t - cachedHead >= buffer.length) {
+            cachedHead = head.get();
+            if (t - cachedHead >= buffer.length) {
+                return false;
+            }
+        }
+        buffer[(int) t & mask] = value;
+        // release: value likhne ke baad hi consumer ko naya tail dikhe
+        tail.setRelease(t + 1);
+        return true;
+    }
+
+    // buffer khali hai to false, wait nahi karta
+    // value out[0] mein aati hai taaki boxing na ho
+    boolean poll(int[] out) {
+        long h = head.get();
+        if (h >= cachedTail) {
+            cachedTail = tail.get();
+            if (h >= cachedTail) {
+                return false;
+            }
+        }
+        out[0] = buffer[(int) h & mask];
+        head.setRelease(h + 1);
+        return true;
+    }
+
+    @Override
+    public void produce(int value) {
+        int idle = 0;
+        while (!offer(value)) {
+            idle = backoff(idle);
+        }
+    }
+
+    @Override
+    public int consume() {
+        long h = head.get();
+        int idle = 0;
+        while (h >= cachedTail) {
+            cachedTail = tail.get();
+            if (h < cachedTail) {
+                break;
+            }
+            idle = backoff(idle);
+        }
+        int value = buffer[(int) h & mask];
+        head.setRelease(h + 1);
+        return value;
+    }
+
+    @Override
+    public void produceBatch(int[] src, int count) {
+        int sent = 0;
+        int idle = 0;
+        while (sent < count) {
+            long t = tail.get();
+            long free = buffer.length - (t - cachedHead);
+            if (free <= 0) {
+                cachedHead = head.get();
+                free = buffer.length - (t - cachedHead);
+                if (free <= 0) {
+                    idle = backoff(idle);
+                    continue;
+                }
+            }
+            int n = (int) Math.min(free, count - sent);
+            for (int i = 0; i < n; i++) {
+                buffer[(int) (t + i) & mask] = src[sent + i];
+            }
+            // poore chunk ke liye ek hi release write
+            tail.setRelease(t + n);
+            sent += n;
+            idle = 0;
+        }
+    }
+
+    @Override
+    public int consumeBatch(int[] dst, int max) {
+        int idle = 0;
+        int n;
+        while ((n = drainTo(dst, 0, max)) == 0) {
+            idle = backoff(idle);
+        }
+        return n;
+    }
+
+    @Override
+    public int drainTo(int[] dst, int offset, int max) {
+        long h = head.get();
+        if (h >= cachedTail) {
+            cachedTail = tail.get();
+            if (h >= cachedTail) {
+                return 0;
+            }
+        }
+        int n = (int) Math.min(cachedTail - h, max);
+        for (int i = 0; i < n; i++) {
+            dst[offset + i] = buffer[(int) (h + i) & mask];
+        }
+        head.setRelease(h + n);
+        return n;
+    }
+
+    int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    int capacity() {
+        return buffer.length;
+    }
+
+    // pehle spin, phir yield, phir thoda park -> khaali wait mein CPU nahi jalta
+    static int backoff(int idle) {
+        if (idle < 100) {
+            Thread.onSpinWait();
+        } else if (idle < 200) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(1_000);
+        }
+        return idle + 1;
+    }
+}
@@ -1,77 +1,16 @@
 package com.communication;
 
-class SharedResource {
-
-    private int data;
-    private boolean hasData;
-
-    public synchronized void produce(int value) {
-        while (hasData) {
-            try {
-                wait();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }
-
-        data = value;
-        hasData = true;
-        System.out.println("Produced: " + value);
-        notify();
-    }
-
-    public synchronized int consume() {
-        while (!hasData) {
-            try {
-                wait();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }
-        hasData = false;
-        notify();
-        System.out.println("Consumed: " + data);
-        return data;
-    }
-}
-
-class Producer implements Runnable {
-
-    private SharedResource resource;
-
-    public Producer(SharedResource resource) {
-        this.resource = resource;
-    }
-
-    @Override
-    public void run() {
-        for (int i = 0; i < 10; i++) {
-            resource.produce(i);
-        }
-    }
-
-}
-
-class Consumer implements Runnable {
-
-    private SharedResource resource;
-
-    public Consumer(SharedResource resource) {
-        this.resource = resource;
-    }
-
-    @Override
-    public void run() {
-        for (int i = 0; i < 10; i++) {
-            int value = resource.consume();
-        }
-    }
-
-}
-
 public class ThreadCommunication {
 
     public static void main(String[] args) {
+        // java com.communication.ThreadCommunication mpmc <producers> <consumers>
+        if (args.length > 0 && "mpmc".equals(args[0])) {
+            int producers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+            int consumers = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+            runMpmc(producers, consumers);
+            return;
+        }
+
         SharedResource sharedResource = new SharedResource();
 
         Thread producerThread = new Thread(new Producer(sharedResource));
@@ -80,6 +19,22 @@ public class ThreadCommunication {
         producerThread.start();
         consumerThread.start();
     }
+
+    // SharedResource ka notify() kai producers/consumers mein galat party ko jaga sakta hai
+    // MpmcQueue mein koi wait/notify hai hi nahi, kitne bhi Producer/Consumer share kar sakte hai
+    static void runMpmc(int producers, int consumers) {
+        MpmcQueue queue = new MpmcQueue(1024);
+        int itemsPerProducer = 10;
+        int total = producers * itemsPerProducer;
+
+        for (int p = 0; p < producers; p++) {
+            new Thread(new Producer(queue, itemsPerProducer), "producer-" + p).start();
+        }
+        for (int c = 0; c < consumers; c++) {
+            int share = total / consumers + (c < total % consumers ? 1 : 0);
+            new Thread(new Consumer(queue, share), "consumer-" + c).start();
+        }
+    }
 }
 
 // notify();
@@ -0,0 +1,295 @@
+package com.countdownlatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// services ka startup DAG (CountDownLatch ki jagah)
+// CountDownLatchDemo mein main sab services ka wait karta hai aur services ke beech koi dependency nahi hoti
+// yahan har service apni dependencies batati hai:
+//   - jiski saari dependencies ready, wo turant start (independent services parallel)
+//   - har service ka apna timeout; time khatam to thread interrupt aur service FAILED
+//   - koi dependency fail hui to dependent service chalti hi nahi, wo bhi fail (cause ke saath)
+// isse boot time = sabse lambi chain (critical path), sabka sum nahi
+public class ServiceGraph {
+
+    public enum Status {
+        STARTED, FAILED, SKIPPED
+    }
+
+    private static final class Service {
+
+        final String name;
+
+        final Callable<?> task;
+
+        final long timeoutMillis;
+
+        final List<String> dependencies;
+
+        Service(String name, Callable<?> task, long timeoutMillis, List<String> dependencies) {
+            this.name = name;
+            this.task = task;
+            this.timeoutMillis = timeoutMillis;
+            this.dependencies = dependencies;
+        }
+    }
+
+    // ek service ka result
+    public static final class ServiceResult {
+
+        public final String name;
+
+        public final Status status;
+
+        public final long startMillis;
+
+        public final long endMillis;
+
+        public final Throwable failure;
+
+        ServiceResult(String name, Status status, long startMillis, long endMillis, Throwable failure) {
+            this.name = name;
+            this.status = status;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+            this.failure = failure;
+        }
+
+        public long durationMillis() {
+            return endMillis - startMillis;
+        }
+    }
+
+    public static final class Report {
+
+        public final Map<String, ServiceResult> results;
+
+        public final List<String> criticalPath;
+
+        public final long totalMillis;
+
+        public final long sumOfDurationsMillis;
+
+        Report(Map<String, ServiceResult> results, List<String> criticalPath, long totalMillis) {
+            this.results = results;
+            this.criticalPath = criticalPath;
+            this.totalMillis = totalMillis;
+            long sum = 0;
+            for (ServiceResult result : results.values()) {
+                sum += result.durationMillis();
+            }
+            this.sumOfDurationsMillis = sum;
+        }
+
+        public boolean allStarted() {
+            for (ServiceResult result : results.values()) {
+                if (result.status != Status.STARTED) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            for (ServiceResult r : results.values()) {
+                sb.append(String.format("  %-10s %-8s %6d ms -> %6d ms (%d ms)%s%n", r.name, r.status, r.startMillis,
+                        r.endMillis, r.durationMillis(), r.failure == null ? "" : "  " + r.failure));
+            }
+            sb.append(String.format("  boot time %d ms, sum of service times %d ms%n", totalMillis,
+                    sumOfDurationsMillis));
+            sb.append("  critical path: ").append(String.join(" -> ", criticalPath));
+            return sb.toString();
+        }
+    }
+
+    private final Map<String, Service> services = new LinkedHashMap<>();
+
+    public ServiceGraph add(String name, Callable<?> task, long timeoutMillis, String... dependsOn) {
+        if (services.containsKey(name)) {
+            throw new IllegalArgumentException("duplicate service " + name);
+        }
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("timeout must be positive for " + name);
+        }
+        services.put(name, new Service(name, task, timeoutMillis, List.of(dependsOn)));
+        return this;
+    }
+
+    public Report run(ExecutorService executor) {
+        List<String> order = topologicalOrder();
+        long origin = System.nanoTime();
+        Map<String, CompletableFuture<ServiceResult>> futures = new HashMap<>();
+
+        for (String name : order) {
+            Service service = services.get(name);
+            CompletableFuture<?>[] deps = new CompletableFuture<?>[service.dependencies.size()];
+            for (int i = 0; i < deps.length; i++) {
+                deps[i] = futures.get(service.dependencies.get(i));
+            }
+            CompletableFuture<ServiceResult> future = CompletableFuture.allOf(deps)
+                    .thenCompose(ignored -> {
+                        for (CompletableFuture<?> dep : deps) {
+                            ServiceResult depResult = (ServiceResult) dep.join();
+                            if (depResult.status != Status.STARTED) {
+                                long now = elapsedMillis(origin);
+                                return CompletableFuture.completedFuture(new ServiceResult(name, Status.SKIPPED, now,
+                                        now, new IllegalStateException("dependency " + depResult.name + " failed")));
+                            }
+                        }
+                        return start(service, executor, origin);
+                    });
+            futures.put(name, future);
+        }
+
+        Map<String, ServiceResult> results = new LinkedHashMap<>();
+        for (String name : order) {
+            results.put(name, futures.get(name).join());
+        }
+        return new Report(results, criticalPath(results), elapsedMillis(origin));
+    }
+
+    private CompletableFuture<ServiceResult> start(Service service, ExecutorService executor, long origin) {
+        long startMillis = elapsedMillis(origin);
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Future<?> running = executor.submit(() -> {
+            try {
+                service.task.call();
+                done.complete(null);
+            } catch (Throwable e) {
+                done.completeExceptionally(e);
+            }
+        });
+        return done.orTimeout(service.timeoutMillis, TimeUnit.MILLISECONDS).handle((ignored, error) -> {
+            long endMillis = elapsedMillis(origin);
+            if (error == null) {
+                return new ServiceResult(service.name, Status.STARTED, startMillis, endMillis, null);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause()
+                    : error;
+            if (cause instanceof TimeoutException) {
+                // time khatam, thread ko bhi rok do taaki wo bekaar CPU/thread na khaye
+                running.cancel(true);
+                cause = new TimeoutException(service.name + " did not start within " + service.timeoutMillis + " ms");
+            }
+            return new ServiceResult(service.name, Status.FAILED, startMillis, endMillis, cause);
+        });
+    }
+
+    // cycle ho to IllegalStateException, anjaan dependency ho to IllegalArgumentException
+    private List<String> topologicalOrder() {
+        List<String> order = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        Set<String> visiting = new HashSet<>();
+        for (String name : services.keySet()) {
+            visit(name, visited, visiting, order);
+        }
+        return order;
+    }
+
+    private void visit(String name, Set<String> visited, Set<String> visiting, List<String> order) {
+        if (visited.contains(name)) {
+            return;
+        }
+        if (!visiting.add(name)) {
+            throw new IllegalStateException("dependency cycle through " + name);
+        }
+        Service service = services.get(name);
+        if (service == null) {
+            throw new IllegalArgumentException("unknown service " + name);
+        }
+        for (String dependency : service.dependencies) {
+            if (!services.containsKey(dependency)) {
+                throw new IllegalArgumentException(name + " depends on unknown service " + dependency);
+            }
+            visit(dependency, visited, visiting, order);
+        }
+        visiting.remove(name);
+        visited.add(name);
+        order.add(name);
+    }
+
+    // sabse der se khatam hone wali service se peeche chalo, har baar wo dependency jo sabse der se khatam hui
+    private List<String> criticalPath(Map<String, ServiceResult> results) {
+        ServiceResult last = null;
+        for (ServiceResult result : results.values()) {
+            if (last == null || result.endMillis > last.endMillis) {
+                last = result;
+            }
+        }
+        List<String> path = new ArrayList<>();
+        while (last != null) {
+            path.add(last.name);
+            ServiceResult latestDependency = null;
+            for (String dependency : services.get(last.name).dependencies) {
+                ServiceResult candidate = results.get(dependency);
+                if (latestDependency == null || candidate.endMillis > latestDependency.endMillis) {
+                    latestDependency = candidate;
+                }
+            }
+            last = latestDependency;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private static long elapsedMillis(long origin) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - origin);
+    }
+}
+
+// CountDownLatchDemo wala scenario, lekin dependencies ke saath
+// config -> database -> cache -> api ; metrics aur mail independent
+class ServiceGraphDemo {
+
+    public static void main(String[] args) {
+        ServiceGraph graph = new ServiceGraph()
+                .add("config", sleep(300), 1_000)
+                .add("database", sleep(800), 2_000, "config")
+                .add("metrics", sleep(500), 1_000)
+                .add("mail", sleep(600), 1_000)
+                .add("cache", sleep(400), 1_000, "database")
+                .add("api", sleep(200), 1_000, "cache", "metrics");
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            System.out.println("all ok:");
+            System.out.println(graph.run(executor));
+
+            // database atak gaya -> timeout, cache aur api skip
+            ServiceGraph slow = new ServiceGraph()
+                    .add("config", sleep(300), 1_000)
+                    .add("database", sleep(5_000), 1_000, "config")
+                    .add("metrics", sleep(500), 1_000)
+                    .add("cache", sleep(400), 1_000, "database")
+                    .add("api", sleep(200), 1_000, "cache", "metrics");
+            System.out.println("database timeout:");
+            System.out.println(slow.run(executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Callable<String> sleep(long millis) {
+        return () -> {
+            System.out.println(Thread.currentThread().getName() + " service started");
+            Thread.sleep(millis);
+            return "ok";
+        };
+    }
+}
@@ -0,0 +1,181 @@
+package com.countdownlatch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// CountDownLatchNewDemo mein latch.await(5, SECONDS) timeout hone ke baad bhi DependentNewService threads chalte rehte hai
+// yahan har call ka apna virtual-thread executor hai (try-with-resources):
+//   deadline / pehla failure / pehla success -> baaki futures cancel(true) (interrupt)
+//   executor.close() tab tak rukta hai jab tak har subtask sach mein khatam na ho jaaye
+// -> method return hone ke baad koi subtask chalta nahi milta (structured concurrency jaisa, bina preview API ke)
+public final class StructuredFanOut {
+
+    private StructuredFanOut() {
+    }
+
+    // fail-fast: sab chahiye; ek fail hua ya deadline nikal gayi to baaki sab turant cancel
+    // results tasks ke order mein
+    public static <T> List<T> allOf(List<? extends Callable<T>> tasks, Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(executor);
+            List<Future<T>> futures = new ArrayList<>(tasks.size());
+            try {
+                for (Callable<T> task : tasks) {
+                    futures.add(completion.submit(task));
+                }
+                // completion order mein dekho taaki pehla failure turant pakda jaaye (invokeAll sabka wait karta)
+                for (int i = 0; i < futures.size(); i++) {
+                    Future<T> done = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (done == null) {
+                        throw new TimeoutException("allOf timed out after " + timeout);
+                    }
+                    done.get();
+                }
+                List<T> results = new ArrayList<>(futures.size());
+                for (Future<T> future : futures) {
+                    results.add(future.get());
+                }
+                return results;
+            } finally {
+                // success pe no-op; failure/timeout/interrupt pe siblings cancel, close() unka wait karta hai
+                for (Future<T> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+    }
+
+    // first-success: pehla successful result lo, baaki replicas cancel (invokeAny khud cancel karta hai)
+    // sab fail ho jaaye to ExecutionException
+    public static <T> T anyOf(List<? extends Callable<T>> tasks, Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return executor.invokeAny(tasks, timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
+
+// java com.countdownlatch.StructuredFanOutDemo [rounds]
+// har round 3 services (6 s) aur 1 s ka timeout, ek ke baad ek round, latch wala tareeka vs structured
+// "running" = abhi bhi chal rahe service threads; latch ke baad ye bache rehte hai, structured ke baad 0
+class StructuredFanOutDemo {
+
+    private static final AtomicInteger running = new AtomicInteger();
+
+    private static final AtomicInteger peak = new AtomicInteger();
+
+    private static final AtomicInteger wasted = new AtomicInteger();
+
+    public static void main(String[] args) throws Exception {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int services = 3;
+        Duration timeout = Duration.ofSeconds(1);
+
+        // 1) latch + raw threads (CountDownLatchNewDemo jaisa)
+        for (int r = 0; r < rounds; r++) {
+            CountDownLatch latch = new CountDownLatch(services);
+            for (int i = 0; i < services; i++) {
+                Callable<String> service = service(6000, false);
+                new Thread(() -> {
+                    try {
+                        service.call();
+                    } catch (Exception e) {
+                        // timeout ke baad koi sunne wala nahi
+                    } finally {
+                        latch.countDown();
+                    }
+                }).start();
+            }
+            latch.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        report("latch", rounds);
+        // bache hue threads ko khatam hone do taaki next run saaf shuru ho
+        while (running.get() > 0) {
+            Thread.sleep(100);
+        }
+        System.out.printf("%-10s services that ran to completion after timeout=%d%n", "latch", wasted.get());
+        peak.set(0);
+        wasted.set(0);
+
+        // 2) wahi rounds StructuredFanOut.allOf se
+        for (int r = 0; r < rounds; r++) {
+            List<Callable<String>> calls = new ArrayList<>();
+            for (int i = 0; i < services; i++) {
+                calls.add(service(6000, false));
+            }
+            try {
+                StructuredFanOut.allOf(calls, timeout);
+            } catch (TimeoutException expected) {
+                // siblings already cancelled
+            }
+            checkNoOrphans("allOf timeout");
+        }
+        report("structured", rounds);
+        System.out.printf("%-10s services that ran to completion after timeout=%d%n", "structured", wasted.get());
+
+        // 3) shutdown-on-failure: ek service 100 ms mein fail, baaki do 2 s wali turant cancel
+        long start = System.nanoTime();
+        try {
+            StructuredFanOut.allOf(List.of(service(2000, false), service(100, true), service(2000, false)),
+                    Duration.ofSeconds(5));
+        } catch (ExecutionException e) {
+            System.out.printf("allOf failed fast in %d ms (%s)%n",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), e.getCause().getMessage());
+        }
+        checkNoOrphans("allOf failure");
+
+        // 4) first-success: teen replicas, sabse tez wala jeetta hai
+        start = System.nanoTime();
+        String first = StructuredFanOut.anyOf(
+                List.of(service(1500, false), service(50 + ThreadLocalRandom.current().nextInt(50), false),
+                        service(1500, false)),
+                Duration.ofSeconds(5));
+        System.out.printf("anyOf -> %s in %d ms%n", first, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        checkNoOrphans("anyOf");
+        System.out.println("no orphaned subtasks");
+    }
+
+    // scope se bahar aate hi koi service chalti nahi honi chahiye
+    private static void checkNoOrphans(String where) {
+        if (running.get() != 0) {
+            throw new IllegalStateException(where + ": " + running.get() + " subtasks still running");
+        }
+    }
+
+    private static Callable<String> service(long millis, boolean fail) {
+        return () -> {
+            int now = running.incrementAndGet();
+            peak.accumulateAndGet(now, Math::max);
+            try {
+                Thread.sleep(millis);
+                if (fail) {
+                    throw new IllegalStateException("service down");
+                }
+                // caller ne pehle hi haar maan li ho tab bhi yahan tak pahunche = bekaar kaam
+                wasted.incrementAndGet();
+                return "ok after " + millis + " ms";
+            } finally {
+                running.decrementAndGet();
+            }
+        };
+    }
+
+    private static void report(String name, int rounds) {
+        System.out.printf("%-10s rounds=%d running after return=%d peak concurrent=%d%n", name, rounds,
+                running.get(), peak.get());
+    }
+}
@@ -0,0 +1,12 @@
+package com.cyclicbarrier;
+
+import java.util.concurrent.BrokenBarrierException;
+
+// CyclicBarrier ki jagah kuch bhi use kar sake isliye chhota sa interface
+// jab tak saare parties await() na kare, sab ruke rehte hai; phir sab aage aur barrier dobara use ho sakta hai
+public interface Barrier {
+
+    void await() throws InterruptedException, BrokenBarrierException;
+
+    int parties();
+}
@@ -0,0 +1,62 @@
+package com.cyclicbarrier;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+
+// java com.cyclicbarrier.BarrierBenchmark [maxThreads] [episodes]
+// iterative parallel algorithm jaisa: har thread kuch nahi karta, bas har episode pe barrier pe milta hai
+// barrier episodes/sec vs thread count, har Barrier kind ke liye
+public class BarrierBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int episodes = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+
+        System.out.printf("%-8s", "threads");
+        for (Barriers.Kind kind : Barriers.Kind.values()) {
+            System.out.printf("%18s", kind);
+        }
+        System.out.println("   (episodes/sec)");
+
+        for (int threads = 2; threads <= maxThreads; threads <<= 1) {
+            System.out.printf("%-8d", threads);
+            for (Barriers.Kind kind : Barriers.Kind.values()) {
+                // warm-up
+                run(kind, threads, Math.max(1, episodes / 10));
+                long elapsed = run(kind, threads, episodes);
+                System.out.printf("%,18.0f", episodes * 1e9 / elapsed);
+            }
+            System.out.println();
+        }
+    }
+
+    static long run(Barriers.Kind kind, int threads, int episodes) throws InterruptedException {
+        Barrier barrier = Barriers.create(kind, threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ready.countDown();
+                try {
+                    go.await();
+                    for (int e = 0; e < episodes; e++) {
+                        barrier.await();
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (BrokenBarrierException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }, kind + "-" + t);
+            workers[t].start();
+        }
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,281 @@
+package com.cyclicbarrier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Barrier ke implementations
+//
+// CYCLIC        -> java.util.concurrent.CyclicBarrier: har party ek hi ReentrantLock + Condition se guzarti hai
+// COMBINING_TREE-> combining tree: parties chhote groups (fanIn) mein, har group ka aakhri thread
+//                  upar wale node pe jata hai; sirf root pe pahunchne wala thread episode khatam karta hai
+//                  slot har episode mein naye milte hai, isliye koi bhi threads (pool ke bhi) await kar sakte hai
+//                  kisi ek jagah pe sab threads nahi ladte -> 64+ threads pe bhi kam contention
+// PHASER        -> java.util.concurrent.Phaser: parties beech mein register/deregister ho sakti hai
+//                  register/arriveAndLeave chahiye to Barriers.phaser(parties) se PhaserBarrier lo
+public final class Barriers {
+
+    public enum Kind {
+        CYCLIC, COMBINING_TREE, PHASER
+    }
+
+    private Barriers() {
+    }
+
+    public static Barrier create(Kind kind, int parties) {
+        switch (kind) {
+            case CYCLIC:
+                return new CyclicBarrierAdapter(parties);
+            case COMBINING_TREE:
+                return new CombiningTreeBarrier(parties, 4);
+            case PHASER:
+                return phaser(parties);
+            default:
+                throw new IllegalArgumentException("unknown barrier " + kind);
+        }
+    }
+
+    // dynamic membership wala barrier; create(PHASER, ..) bhi yahi deta hai par sirf Barrier ke roop mein
+    public static PhaserBarrier phaser(int parties) {
+        return new PhaserBarrier(parties);
+    }
+
+    static final class CyclicBarrierAdapter implements Barrier {
+
+        private final CyclicBarrier barrier;
+
+        CyclicBarrierAdapter(int parties) {
+            this.barrier = new CyclicBarrier(parties);
+        }
+
+        @Override
+        public void await() throws InterruptedException, BrokenBarrierException {
+            barrier.await();
+        }
+
+        @Override
+        public int parties() {
+            return barrier.getParties();
+        }
+    }
+
+    public static final class PhaserBarrier implements Barrier {
+
+        private final Phaser phaser;
+
+        PhaserBarrier(int parties) {
+            this.phaser = new Phaser(parties);
+        }
+
+        @Override
+        public void await() {
+            phaser.arriveAndAwaitAdvance();
+        }
+
+        @Override
+        public int parties() {
+            return phaser.getRegisteredParties();
+        }
+
+        // naya party beech mein judna; kisi party ke thread se bulao to chal rahe phase mein bhi iska wait hoga
+        public void register() {
+            phaser.register();
+        }
+
+        // party chali gayi, aage ke episodes mein uska wait nahi hoga
+        public void arriveAndLeave() {
+            phaser.arriveAndDeregister();
+        }
+    }
+
+    // combining tree barrier
+    // har episode (generation) ka apna tree; await() pe generation ke arrival counter se slot milta hai
+    // -> leaf = slot / fanIn, thread kisi leaf se bandha nahi (pool ke threads badalte rahe to bhi chalega)
+    // node pe aakhri aane wala upar jaata hai, root pe aakhri agli generation lagata hai, phir neeche aate hue
+    // har node ka released flag set -> us node pe ruke threads chhoot jaate hai
+    // parties se zyada threads ek saath aaye to extra wale agli generation ka wait karte hai
+    // interrupt: CyclicBarrier jaisa -> interrupted thread InterruptedException, baaki BrokenBarrierException;
+    // barrier trip ho chuka ho to interrupt agle kaam ke liye rakh ke normally return
+    static final class CombiningTreeBarrier implements Barrier {
+
+        private static final int RUNNING = 0;
+
+        private static final int TRIPPED = 1;
+
+        private static final int BROKEN = 2;
+
+        private static final class Node {
+
+            final AtomicInteger count;
+
+            final Node parent;
+
+            volatile boolean released;
+
+            Node(int size, Node parent) {
+                this.count = new AtomicInteger(size);
+                this.parent = parent;
+            }
+        }
+
+        private static final class Generation {
+
+            final Node[] leaves;
+
+            final AtomicInteger arrivals = new AtomicInteger();
+
+            final AtomicInteger state = new AtomicInteger(RUNNING);
+
+            Generation(Node[] leaves) {
+                this.leaves = leaves;
+            }
+        }
+
+        private final int parties;
+
+        private final int fanIn;
+
+        private final int[] leafSizes;
+
+        private volatile Generation current;
+
+        CombiningTreeBarrier(int parties, int fanIn) {
+            if (parties <= 0 || fanIn < 2) {
+                throw new IllegalArgumentException("parties must be positive and fanIn >= 2");
+            }
+            this.parties = parties;
+            this.fanIn = fanIn;
+            // neeche se upar banate hai: har level pe nodes = ceil(prev / fanIn)
+            int width = (parties + fanIn - 1) / fanIn;
+            this.leafSizes = new int[width];
+            for (int i = 0; i < width; i++) {
+                leafSizes[i] = Math.min(fanIn, parties - i * fanIn);
+            }
+            this.current = new Generation(buildLevels(leafSizes));
+        }
+
+        private Node[] buildLevels(int[] leafSizes) {
+            // pehle saare levels ke sizes, phir root se neeche nodes banao (parent pehle chahiye)
+            List<int[]> levels = new ArrayList<>();
+            levels.add(leafSizes);
+            int[] current = leafSizes;
+            while (current.length > 1) {
+                int width = (current.length + fanIn - 1) / fanIn;
+                int[] sizes = new int[width];
+                for (int i = 0; i < width; i++) {
+                    sizes[i] = Math.min(fanIn, current.length - i * fanIn);
+                }
+                levels.add(sizes);
+                current = sizes;
+            }
+            Node[] parents = null;
+            for (int l = levels.size() - 1; l >= 0; l--) {
+                int[] sizes = levels.get(l);
+                Node[] nodes = new Node[sizes.length];
+                for (int i = 0; i < sizes.length; i++) {
+                    nodes[i] = new Node(sizes[i], parents == null ? null : parents[i / fanIn]);
+                }
+                parents = nodes;
+            }
+            return parents;
+        }
+
+        @Override
+        public void await() throws InterruptedException, BrokenBarrierException {
+            while (true) {
+                Generation gen = current;
+                if (gen.state.get() == BROKEN) {
+                    throw new BrokenBarrierException();
+                }
+                if (Thread.interrupted()) {
+                    if (breakBarrier(gen)) {
+                        throw new InterruptedException();
+                    }
+                    // purani (trip ho chuki) generation padhi thi, nayi pe dobara
+                    Thread.currentThread().interrupt();
+                    continue;
+                }
+                int slot = gen.arrivals.getAndIncrement();
+                if (slot < parties) {
+                    arrive(gen, gen.leaves[slot / fanIn]);
+                    return;
+                }
+                // is generation mein saare slots bhar gaye -> agli generation ka wait
+                int idle = 0;
+                while (current == gen) {
+                    if (gen.state.get() == BROKEN) {
+                        throw new BrokenBarrierException();
+                    }
+                    if (Thread.interrupted()) {
+                        if (breakBarrier(gen)) {
+                            throw new InterruptedException();
+                        }
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                    idle = backoff(idle);
+                }
+            }
+        }
+
+        private void arrive(Generation gen, Node node) throws InterruptedException, BrokenBarrierException {
+            if (node.count.decrementAndGet() == 0) {
+                // is node pe aakhri -> upar jao, wahan se laut ke apne node ke threads ko chhodo
+                if (node.parent != null) {
+                    arrive(gen, node.parent);
+                } else {
+                    if (!gen.state.compareAndSet(RUNNING, TRIPPED)) {
+                        throw new BrokenBarrierException();
+                    }
+                    current = new Generation(buildLevels(leafSizes));
+                }
+                node.released = true;
+                return;
+            }
+            int idle = 0;
+            boolean interrupted = false;
+            while (!node.released) {
+                if (gen.state.get() == BROKEN) {
+                    throw new BrokenBarrierException();
+                }
+                if (!interrupted && Thread.interrupted()) {
+                    if (breakBarrier(gen)) {
+                        throw new InterruptedException();
+                    }
+                    // trip ho chuka, release aane wala hai; interrupt baad ke liye
+                    interrupted = true;
+                }
+                idle = backoff(idle);
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // true -> is generation ko humne toda; false -> wo pehle hi trip (ya break) ho chuki thi
+        private static boolean breakBarrier(Generation gen) {
+            return gen.state.compareAndSet(RUNNING, BROKEN);
+        }
+
+        @Override
+        public int parties() {
+            return parties;
+        }
+    }
+
+    // cores se zyada threads ho to sirf spin karna CPU barbaad karta hai, isliye spin -> yield -> park
+    static int backoff(int idle) {
+        if (idle < 64) {
+            Thread.onSpinWait();
+        } else if (idle < 128) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(1_000);
+        }
+        return idle + 1;
+    }
+}
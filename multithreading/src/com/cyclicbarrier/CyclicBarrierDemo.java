@@ -1,7 +1,6 @@
 package com.cyclicbarrier;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -10,7 +9,9 @@ public class CyclicBarrierDemo {
     public static void main(String[] args) {
         int numberOfServices = 3;
         ExecutorService executorService = Executors.newFixedThreadPool(numberOfServices);
-        CyclicBarrier barrier = new CyclicBarrier(numberOfServices);
+        // java com.cyclicbarrier.CyclicBarrierDemo [cyclic|combining_tree|phaser]
+        Barriers.Kind kind = args.length > 0 ? Barriers.Kind.valueOf(args[0].toUpperCase()) : Barriers.Kind.CYCLIC;
+        Barrier barrier = Barriers.create(kind, numberOfServices);
 
         executorService.submit(new DependentService(barrier));
         executorService.submit(new DependentService(barrier));
@@ -23,9 +24,9 @@ public class CyclicBarrierDemo {
 
 class DependentService implements Callable<String> {
 
-    private final CyclicBarrier barrier;
+    private final Barrier barrier;
 
-    public DependentService(CyclicBarrier barrier) {
+    public DependentService(Barrier barrier) {
         this.barrier = barrier;
     }
 
@@ -41,3 +42,45 @@ class DependentService implements Callable<String> {
 }
 
 // 3 friends waiting for 2 friends that inroute to reach the movie hall
+
+// java com.cyclicbarrier.DynamicMembershipDemo
+// PhaserBarrier ke saath parties beech mein badalti hai:
+// worker-i (i + 1) rounds karke nikal jata hai, aur worker-0 apne pehle round se pehle ek latecomer register karta hai
+// jo 3 rounds karta hai; har round ke baad parties() dikhata hai kitne abhi bache hai
+class DynamicMembershipDemo {
+
+    public static void main(String[] args) throws InterruptedException {
+        Barriers.PhaserBarrier barrier = Barriers.phaser(3);
+        Thread latecomer = new Thread(() -> work(barrier, 3), "latecomer");
+        Thread[] workers = new Thread[3];
+        for (int i = 0; i < workers.length; i++) {
+            int rounds = i + 1;
+            boolean bringsLatecomer = i == 0;
+            workers[i] = new Thread(() -> {
+                if (bringsLatecomer) {
+                    // await se pehle register -> pehle round mein bhi latecomer ka wait hoga
+                    barrier.register();
+                    latecomer.start();
+                }
+                work(barrier, rounds);
+            }, "worker-" + i);
+            workers[i].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        latecomer.join();
+        System.out.println("all done, parties=" + barrier.parties());
+    }
+
+    private static void work(Barriers.PhaserBarrier barrier, int rounds) {
+        String name = Thread.currentThread().getName();
+        for (int r = 1; r <= rounds; r++) {
+            barrier.await();
+            System.out.println(name + " passed round " + r + ", parties=" + barrier.parties());
+        }
+        // ye agle round ka arrival bhi hai, baaki log iska wait nahi karte
+        barrier.arriveAndLeave();
+        System.out.println(name + " left");
+    }
+}
@@ -0,0 +1,228 @@
+package com.executorframework;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// thread pool jo apna size khud adjust karta hai (.NET thread pool jaisa hill climbing)
+//
+// har sample interval pe:
+//   throughput    = kitne tasks complete hue / interval
+//   blockingRatio = 1 - (tasks ka CPU time / tasks ka wall time)
+//                   factorial jaisa CPU kaam -> ~0, CallableTask jaisa sleep -> ~1
+// shuruaat Little's law wale andaze se: threads = cores / (1 - blockingRatio)
+// phir hill climbing: size badhane/ghatane se throughput badha to usi direction mein chalo,
+// ghata to direction ulta karo; badlav noise (SIGNIFICANT_CHANGE) ke andar hai to size wahi rakho
+// (flat ko "behtar nahi" maan ke shrink karte to pool acche size se neeche khisakta rehta)
+// queue khali hai to dheere dheere shrink
+// size hamesha [minThreads, maxThreads] ke beech
+public final class AdaptiveThreadPool extends ThreadPoolExecutor {
+
+    // itne se kam badlav ko noise maante hai
+    private static final double SIGNIFICANT_CHANGE = 0.05;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final int minThreads;
+
+    private final int maxThreads;
+
+    private final ScheduledExecutorService controller;
+
+    private final LongAdder completedTasks = new LongAdder();
+
+    private final LongAdder wallNanos = new LongAdder();
+
+    private final LongAdder cpuNanos = new LongAdder();
+
+    private final ThreadLocal<long[]> taskStart = ThreadLocal.withInitial(() -> new long[2]);
+
+    // controller thread hi inko chhoota hai
+    private long lastCompleted;
+
+    private long lastWall;
+
+    private long lastCpu;
+
+    private double lastThroughput;
+
+    private int direction = 1;
+
+    private boolean littleEstimateApplied;
+
+    private volatile double throughput;
+
+    private volatile double blockingRatio;
+
+    public AdaptiveThreadPool(int minThreads, int maxThreads, long sampleMillis) {
+        super(minThreads, minThreads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        if (minThreads <= 0 || maxThreads < minThreads || sampleMillis <= 0) {
+            throw new IllegalArgumentException("need 0 < minThreads <= maxThreads and sampleMillis > 0");
+        }
+        this.minThreads = minThreads;
+        this.maxThreads = maxThreads;
+        this.controller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "adaptive-pool-controller");
+            t.setDaemon(true);
+            return t;
+        });
+        controller.scheduleAtFixedRate(() -> adjust(sampleMillis), sampleMillis, sampleMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        long[] start = taskStart.get();
+        start[0] = System.nanoTime();
+        start[1] = THREADS.getCurrentThreadCpuTime();
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        long[] start = taskStart.get();
+        wallNanos.add(System.nanoTime() - start[0]);
+        cpuNanos.add(THREADS.getCurrentThreadCpuTime() - start[1]);
+        completedTasks.increment();
+    }
+
+    private void adjust(long sampleMillis) {
+        long completed = completedTasks.sum();
+        long wall = wallNanos.sum();
+        long cpu = cpuNanos.sum();
+        long doneInSample = completed - lastCompleted;
+        long wallInSample = wall - lastWall;
+        long cpuInSample = cpu - lastCpu;
+        lastCompleted = completed;
+        lastWall = wall;
+        lastCpu = cpu;
+
+        double currentThroughput = doneInSample * 1000.0 / sampleMillis;
+        throughput = currentThroughput;
+        if (wallInSample > 0) {
+            blockingRatio = Math.max(0, Math.min(0.99, 1 - (double) cpuInSample / wallInSample));
+        }
+
+        int size = getCorePoolSize();
+        int target;
+        if (getQueue().isEmpty() && getActiveCount() < size) {
+            // kaam hi nahi hai, dheere shrink
+            target = size - 1;
+        } else if (!littleEstimateApplied && doneInSample > 0) {
+            // Little's law: cores ko busy rakhne ke liye kitne threads chahiye
+            int cores = Runtime.getRuntime().availableProcessors();
+            target = (int) Math.ceil(cores / (1 - blockingRatio));
+            littleEstimateApplied = true;
+        } else {
+            // hill climbing
+            int step = Math.max(1, size / 8);
+            if (lastThroughput <= 0) {
+                target = size + direction * step;
+            } else {
+                double change = (currentThroughput - lastThroughput) / lastThroughput;
+                if (change < -SIGNIFICANT_CHANGE) {
+                    direction = -direction;
+                    target = size + direction * step;
+                } else if (change > SIGNIFICANT_CHANGE) {
+                    target = size + direction * step;
+                } else {
+                    // noise: yahi size theek hai
+                    target = size;
+                }
+            }
+        }
+        lastThroughput = currentThroughput;
+        resize(Math.max(minThreads, Math.min(maxThreads, target)));
+    }
+
+    private void resize(int size) {
+        // core <= max hamesha sach rehna chahiye, isliye order dhyan se
+        if (size > getMaximumPoolSize()) {
+            setMaximumPoolSize(size);
+            setCorePoolSize(size);
+        } else {
+            setCorePoolSize(size);
+            setMaximumPoolSize(size);
+        }
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public double getBlockingRatio() {
+        return blockingRatio;
+    }
+
+    @Override
+    public void shutdown() {
+        controller.shutdownNow();
+        super.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        controller.shutdownNow();
+        return super.shutdownNow();
+    }
+}
+
+// java com.executorframework.AdaptivePoolDemo [seconds] [cpuMicros] [sleepMillis]
+// mixed task: thoda CPU (factorial jaisa) + thoda sleep (CallableTask jaisa)
+// fixed pools (2, 5, 10, 50) vs adaptive pool ka throughput, aur adaptive pool ka size kaise badla
+class AdaptivePoolDemo {
+
+    public static void main(String[] args) throws InterruptedException {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        long cpuMicros = args.length > 1 ? Long.parseLong(args[1]) : 200;
+        long sleepMillis = args.length > 2 ? Long.parseLong(args[2]) : 5;
+
+        for (int size : new int[] { 2, 5, 10, 50 }) {
+            ThreadPoolExecutor fixed = (ThreadPoolExecutor) Executors.newFixedThreadPool(size);
+            System.out.printf("fixed(%d): %,.0f tasks/sec%n", size, drive(fixed, seconds, cpuMicros, sleepMillis, false));
+        }
+        AdaptiveThreadPool adaptive = new AdaptiveThreadPool(1, 256, 250);
+        System.out.printf("adaptive: %,.0f tasks/sec (final size %d)%n",
+                drive(adaptive, seconds, cpuMicros, sleepMillis, true), adaptive.getCorePoolSize());
+    }
+
+    // queue mein hamesha kuch backlog rakhte hai taaki pool kabhi bhookha na rahe
+    static double drive(ThreadPoolExecutor pool, int seconds, long cpuMicros, long sleepMillis, boolean trace)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        long start = System.nanoTime();
+        long nextTrace = start + TimeUnit.MILLISECONDS.toNanos(500);
+        Runnable task = () -> {
+            long spinUntil = System.nanoTime() + cpuMicros * 1_000;
+            while (System.nanoTime() < spinUntil) {
+                TestMain.factorial(10);
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        while (System.nanoTime() < deadline) {
+            while (pool.getQueue().size() < 1_000) {
+                pool.execute(task);
+            }
+            if (trace && System.nanoTime() > nextTrace) {
+                AdaptiveThreadPool adaptive = (AdaptiveThreadPool) pool;
+                System.out.printf("  size=%3d throughput=%,8.0f/s blocking=%.2f%n", adaptive.getCorePoolSize(),
+                        adaptive.getThroughput(), adaptive.getBlockingRatio());
+                nextTrace += TimeUnit.MILLISECONDS.toNanos(500);
+            }
+            Thread.sleep(1);
+        }
+        long completed = pool.getCompletedTaskCount();
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        pool.shutdownNow();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+        return completed / elapsed;
+    }
+}
@@ -0,0 +1,274 @@
+package com.executorframework;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// bade factorials (10^5 - 10^6) ke liye, TestMain.factorial int mein 12! ke baad overflow ho jata hai
+//
+// PRODUCT_TREE -> 1..n ko aadha aadha baant ke multiply (binary splitting)
+//                 chhote numbers aapas mein multiply, bade numbers aapas mein; BigInteger ka
+//                 Karatsuba/Toom-Cook multiply tabhi faydemand hai jab dono side barabar size ke ho
+//                 dono halves ForkJoin se parallel
+// PRIME_SWING  -> Luschny ka prime swing: n! = (n/2)!^2 * swing(n) * 2^k
+//                 swing(n) sirf primes ki powers ka product hai, isliye multiplications bahut kam
+public final class BigFactorial {
+
+    public enum Algorithm {
+        PRODUCT_TREE, PRIME_SWING
+    }
+
+    // itne factors se kam ho to fork nahi karte, seedha multiply
+    private static final int FORK_THRESHOLD = 512;
+
+    private BigFactorial() {
+    }
+
+    public static BigInteger factorial(int n) {
+        return factorial(n, Algorithm.PRODUCT_TREE, ForkJoinPool.commonPool());
+    }
+
+    public static BigInteger factorial(int n, Algorithm algorithm) {
+        return factorial(n, algorithm, ForkJoinPool.commonPool());
+    }
+
+    public static BigInteger factorial(int n, Algorithm algorithm, ForkJoinPool pool) {
+        if (n < 0) {
+            throw new IllegalArgumentException("factorial of negative number: " + n);
+        }
+        if (n < 2) {
+            return BigInteger.ONE;
+        }
+        if (algorithm == Algorithm.PRIME_SWING) {
+            return primeSwingFactorial(n, pool);
+        }
+        return pool.invoke(new RangeProduct(2, n));
+    }
+
+    // lo..hi ka product (dono included), common pool pe
+    static BigInteger factorialRange(int lo, int hi) {
+        if (hi < lo) {
+            return BigInteger.ONE;
+        }
+        return ForkJoinPool.commonPool().invoke(new RangeProduct(Math.max(lo, 1), hi));
+    }
+
+    // kai factorials ek saath
+    // sorted karke (n[i-1], n[i]] range ke products parallel mein banate hai,
+    // phir prefix multiply: f(n[i]) = f(n[i-1]) * product(n[i-1]+1 .. n[i])
+    // isse har factorial shuru se compute nahi hota, pichhle ka result reuse hota hai
+    // result input ke order mein
+    public static BigInteger[] factorials(int[] ns) {
+        return factorials(ns, ForkJoinPool.commonPool());
+    }
+
+    public static BigInteger[] factorials(int[] ns, ForkJoinPool pool) {
+        for (int n : ns) {
+            if (n < 0) {
+                throw new IllegalArgumentException("factorial of negative number: " + n);
+            }
+        }
+        int[] sorted = Arrays.stream(ns).distinct().sorted().toArray();
+
+        RangeProduct[] segments = new RangeProduct[sorted.length];
+        int previous = 1;
+        for (int i = 0; i < sorted.length; i++) {
+            segments[i] = new RangeProduct(Math.max(previous + 1, 2), sorted[i]);
+            previous = Math.max(previous, sorted[i]);
+        }
+        BigInteger[] segmentProducts = pool.invoke(new RecursiveTask<BigInteger[]>() {
+            @Override
+            protected BigInteger[] compute() {
+                invokeAll(segments);
+                BigInteger[] products = new BigInteger[segments.length];
+                for (int i = 0; i < segments.length; i++) {
+                    products[i] = segments[i].join();
+                }
+                return products;
+            }
+        });
+
+        BigInteger[] bySorted = new BigInteger[sorted.length];
+        BigInteger running = BigInteger.ONE;
+        for (int i = 0; i < sorted.length; i++) {
+            running = running.multiply(segmentProducts[i]);
+            bySorted[i] = running;
+        }
+
+        BigInteger[] results = new BigInteger[ns.length];
+        for (int i = 0; i < ns.length; i++) {
+            results[i] = bySorted[Arrays.binarySearch(sorted, ns[i])];
+        }
+        return results;
+    }
+
+    // lo..hi (dono included) ka product, hi < lo ho to 1
+    static final class RangeProduct extends RecursiveTask<BigInteger> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int lo;
+
+        private final int hi;
+
+        RangeProduct(int lo, int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            if (hi < lo) {
+                return BigInteger.ONE;
+            }
+            if (hi - lo < FORK_THRESHOLD) {
+                return sequentialProduct(lo, hi);
+            }
+            int mid = (lo + hi) >>> 1;
+            RangeProduct left = new RangeProduct(lo, mid);
+            left.fork();
+            BigInteger right = new RangeProduct(mid + 1, hi).compute();
+            return right.multiply(left.join());
+        }
+
+        private static BigInteger sequentialProduct(int lo, int hi) {
+            if (hi - lo < 16) {
+                return packedProduct(lo, hi);
+            }
+            int mid = (lo + hi) >>> 1;
+            return sequentialProduct(lo, mid).multiply(sequentialProduct(mid + 1, hi));
+        }
+
+        // jab tak long mein fit ho, long mein hi multiply; BigInteger tabhi banao jab zaroorat ho
+        private static BigInteger packedProduct(int lo, int hi) {
+            BigInteger result = BigInteger.ONE;
+            long acc = 1;
+            for (int i = lo; i <= hi; i++) {
+                if (acc > Long.MAX_VALUE / i) {
+                    result = result.multiply(BigInteger.valueOf(acc));
+                    acc = 1;
+                }
+                acc *= i;
+            }
+            return result.multiply(BigInteger.valueOf(acc));
+        }
+    }
+
+    // int factors ke array ka product, wahi binary splitting
+    static final class FactorProduct extends RecursiveTask<BigInteger> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] factors;
+
+        private final int from;
+
+        private final int to;
+
+        FactorProduct(int[] factors, int from, int to) {
+            this.factors = factors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            int length = to - from;
+            if (length <= 0) {
+                return BigInteger.ONE;
+            }
+            if (length <= 16) {
+                BigInteger result = BigInteger.ONE;
+                long acc = 1;
+                for (int i = from; i < to; i++) {
+                    if (acc > Long.MAX_VALUE / factors[i]) {
+                        result = result.multiply(BigInteger.valueOf(acc));
+                        acc = 1;
+                    }
+                    acc *= factors[i];
+                }
+                return result.multiply(BigInteger.valueOf(acc));
+            }
+            int mid = (from + to) >>> 1;
+            FactorProduct left = new FactorProduct(factors, from, mid);
+            FactorProduct right = new FactorProduct(factors, mid, to);
+            if (length < FORK_THRESHOLD) {
+                return left.compute().multiply(right.compute());
+            }
+            left.fork();
+            return right.compute().multiply(left.join());
+        }
+    }
+
+    // n! = oddFactorial(n) * 2^(n - bitCount(n))
+    // oddFactorial(n) = oddFactorial(n/2)^2 * swing(n)
+    private static BigInteger primeSwingFactorial(int n, ForkJoinPool pool) {
+        int[] primes = oddPrimesUpTo(n);
+        BigInteger odd = oddFactorial(n, primes, pool);
+        return odd.shiftLeft(n - Integer.bitCount(n));
+    }
+
+    private static BigInteger oddFactorial(int n, int[] primes, ForkJoinPool pool) {
+        if (n < 2) {
+            return BigInteger.ONE;
+        }
+        BigInteger half = oddFactorial(n / 2, primes, pool);
+        BigInteger swing = swing(n, primes, pool);
+        return half.multiply(half).multiply(swing);
+    }
+
+    // swing(n) = n! / ((n/2)!)^2 ka odd part, sirf primes se
+    private static BigInteger swing(int n, int[] primes, ForkJoinPool pool) {
+        if (n < 3) {
+            return BigInteger.ONE;
+        }
+        int[] factors = new int[primes.length * 2];
+        int count = 0;
+        int sqrt = (int) Math.sqrt(n);
+        for (int p : primes) {
+            if (p > n) {
+                break;
+            }
+            if (p <= sqrt) {
+                // p ki power: n/p, n/p^2, ... mein jitne odd hai utni baar p
+                int q = n;
+                while ((q /= p) > 0) {
+                    if ((q & 1) == 1) {
+                        if (count == factors.length) {
+                            factors = Arrays.copyOf(factors, count * 2);
+                        }
+                        factors[count++] = p;
+                    }
+                }
+            } else if (p <= n / 3) {
+                if (((n / p) & 1) == 1) {
+                    factors[count++] = p;
+                }
+            } else if (p > n / 2) {
+                factors[count++] = p;
+            }
+        }
+        return pool.invoke(new FactorProduct(factors, 0, count));
+    }
+
+    // Sieve of Eratosthenes, 2 ko chhod ke
+    private static int[] oddPrimesUpTo(int n) {
+        boolean[] composite = new boolean[n + 1];
+        int[] primes = new int[Math.max(16, (int) (1.3 * n / Math.max(1, Math.log(n))))];
+        int count = 0;
+        for (int i = 3; i <= n; i += 2) {
+            if (composite[i]) {
+                continue;
+            }
+            if (count == primes.length) {
+                primes = Arrays.copyOf(primes, count * 2);
+            }
+            primes[count++] = i;
+            for (long j = (long) i * i; j <= n; j += 2L * i) {
+                composite[(int) j] = true;
+            }
+        }
+        return Arrays.copyOf(primes, count);
+    }
+}
@@ -0,0 +1,91 @@
+package com.executorframework;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// java com.executorframework.BlockingLoadTest [tasks] [sleepMillis] [poolSize] [modes...]
+// RunnableTask / CallableTask jaisa blocking kaam (sirf sleep) bahut saare tasks mein
+// har mode ke liye: kul time, peak platform threads, ek saath chal rahe tasks ka peak, peak heap
+public class BlockingLoadTest {
+
+    public static void main(String[] args) throws InterruptedException {
+        int tasks = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        long sleepMillis = args.length > 1 ? Long.parseLong(args[1]) : 10;
+        int poolSize = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+
+        ExecutorFactory.Mode[] modes = ExecutorFactory.Mode.values();
+        if (args.length > 3) {
+            modes = new ExecutorFactory.Mode[args.length - 3];
+            for (int i = 3; i < args.length; i++) {
+                modes[i - 3] = ExecutorFactory.parse(args[i]);
+            }
+        }
+
+        System.out.printf("tasks=%,d sleep=%d ms poolSize=%d%n", tasks, sleepMillis, poolSize);
+        System.out.printf("%-10s %12s %16s %16s %14s%n", "mode", "time (ms)", "peak threads", "peak running",
+                "peak heap MB");
+        for (ExecutorFactory.Mode mode : modes) {
+            run(mode, tasks, sleepMillis, poolSize);
+        }
+    }
+
+    static void run(ExecutorFactory.Mode mode, int tasks, long sleepMillis, int poolSize) throws InterruptedException {
+        System.gc();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        threads.resetPeakThreadCount();
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peakRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(tasks);
+
+        // heap ko background mein sample karte hai, peak yaad rakhte hai
+        long[] peakHeap = new long[1];
+        Thread sampler = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                peakHeap[0] = Math.max(peakHeap[0], memory.getHeapMemoryUsage().getUsed());
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, "heap-sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+
+        long start = System.nanoTime();
+        ExecutorService executor = ExecutorFactory.create(mode, poolSize);
+        try {
+            for (int i = 0; i < tasks; i++) {
+                executor.execute(() -> {
+                    int now = running.incrementAndGet();
+                    peakRunning.accumulateAndGet(now, Math::max);
+                    try {
+                        Thread.sleep(sleepMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        running.decrementAndGet();
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        long elapsed = System.nanoTime() - start;
+        sampler.interrupt();
+        sampler.join();
+
+        System.out.printf("%-10s %,12d %,16d %,16d %,14d%n", mode, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                threads.getPeakThreadCount(), peakRunning.get(), peakHeap[0] / (1024 * 1024));
+    }
+}
@@ -0,0 +1,173 @@
+package com.executorframework;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Executors.newFixedThreadPool ki queue (LinkedBlockingQueue) unbounded hai:
+// submit karne wale kaam karne walon se tez ho to queue (aur heap) badhti hi jaati hai -> OOM
+// yahan queue ArrayBlockingQueue(capacity) hai aur queue bhari ho to policy decide karti hai:
+//
+// BLOCK       -> submit karne wala thread jagah banne tak rukta hai (producer apne aap slow)
+// TIMEOUT     -> utni der rukta hai, phir bhi jagah nahi to RejectedExecutionException
+// CALLER_RUNS -> task submit karne wala thread khud chala leta hai (wo bhi naturally slow ho jata hai)
+//
+// shutdown ke baad submit hamesha reject (ExecutorDemo jaisa), lekin gina jaata hai
+// memory: queue ka array shuru mein hi ban jata hai aur kabhi nahi badhta
+public final class BoundedExecutor extends ThreadPoolExecutor {
+
+    public enum Policy {
+        BLOCK, TIMEOUT, CALLER_RUNS
+    }
+
+    // compressed oops maan ke: ek reference = 4 bytes
+    private static final int REFERENCE_BYTES = 4;
+
+    private final int capacity;
+
+    private final Policy policy;
+
+    private final long timeoutNanos;
+
+    private final AtomicInteger peakQueued = new AtomicInteger();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder timeouts = new LongAdder();
+
+    private final LongAdder blockedSubmits = new LongAdder();
+
+    private final LongAdder blockedNanos = new LongAdder();
+
+    private final LongAdder callerRuns = new LongAdder();
+
+    public BoundedExecutor(int threads, int capacity, Policy policy) {
+        this(threads, capacity, policy, 0, TimeUnit.MILLISECONDS);
+    }
+
+    // timeout sirf TIMEOUT policy ke liye
+    public BoundedExecutor(int threads, int capacity, Policy policy, long timeout, TimeUnit unit) {
+        super(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacity));
+        if (policy == Policy.TIMEOUT && timeout <= 0) {
+            throw new IllegalArgumentException("TIMEOUT policy needs a positive timeout");
+        }
+        this.capacity = capacity;
+        this.policy = policy;
+        this.timeoutNanos = unit.toNanos(timeout);
+        setRejectedExecutionHandler((task, executor) -> onQueueFull(task));
+        // workers pehle se, taaki BLOCK/TIMEOUT mein queue mein daala task koi na koi uthaye
+        prestartAllCoreThreads();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        super.execute(command);
+        peakQueued.accumulateAndGet(getQueue().size(), Math::max);
+    }
+
+    private void onQueueFull(Runnable task) {
+        if (isShutdown()) {
+            rejected.increment();
+            throw new RejectedExecutionException("executor is shut down");
+        }
+        BlockingQueue<Runnable> queue = getQueue();
+        switch (policy) {
+            case BLOCK:
+                long start = System.nanoTime();
+                try {
+                    queue.put(task);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    rejected.increment();
+                    throw new RejectedExecutionException("interrupted while waiting for queue space", e);
+                } finally {
+                    blockedSubmits.increment();
+                    blockedNanos.add(System.nanoTime() - start);
+                }
+                recheckShutdown(task);
+                break;
+            case TIMEOUT:
+                long waitStart = System.nanoTime();
+                boolean queued;
+                try {
+                    queued = queue.offer(task, timeoutNanos, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    rejected.increment();
+                    throw new RejectedExecutionException("interrupted while waiting for queue space", e);
+                } finally {
+                    blockedSubmits.increment();
+                    blockedNanos.add(System.nanoTime() - waitStart);
+                }
+                if (!queued) {
+                    timeouts.increment();
+                    rejected.increment();
+                    throw new RejectedExecutionException("queue full for " + timeoutNanos + " ns");
+                }
+                recheckShutdown(task);
+                break;
+            case CALLER_RUNS:
+                callerRuns.increment();
+                task.run();
+                break;
+            default:
+                throw new IllegalStateException("unknown policy " + policy);
+        }
+    }
+
+    // queue mein daalte waqt shutdown ho gaya to task ko wapas nikal ke reject (warna koi nahi chalayega)
+    private void recheckShutdown(Runnable task) {
+        if (isShutdown() && getQueue().remove(task)) {
+            rejected.increment();
+            throw new RejectedExecutionException("executor is shut down");
+        }
+    }
+
+    public Policy policy() {
+        return policy;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int peakQueued() {
+        return peakQueued.get();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    public long timeouts() {
+        return timeouts.sum();
+    }
+
+    public long blockedSubmits() {
+        return blockedSubmits.sum();
+    }
+
+    public long blockedNanos() {
+        return blockedNanos.sum();
+    }
+
+    public long callerRuns() {
+        return callerRuns.sum();
+    }
+
+    // queue ke slots ka array (tasks khud iske alawa, lekin max capacity tak hi)
+    public long queueSlotBytes() {
+        return 16L + (long) capacity * REFERENCE_BYTES;
+    }
+
+    public String getReport() {
+        return String.format("[%s] queued=%d/%d peak=%d slots=%,d B | completed=%,d rejected=%,d timeouts=%,d"
+                + " blocked=%,d (%,d ms) callerRuns=%,d", policy, getQueue().size(), capacity, peakQueued(),
+                queueSlotBytes(), getCompletedTaskCount(), rejected(), timeouts(), blockedSubmits(),
+                TimeUnit.NANOSECONDS.toMillis(blockedNanos()), callerRuns());
+    }
+}
@@ -0,0 +1,134 @@
+package com.executorframework;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import com.benchmark.LatencyHistogram;
+
+// java com.executorframework.BoundedLoadTest [workers] [serviceMillis] [seconds] [overload] [payloadBytes]
+//
+// workers threads, har task serviceMillis sleep karta hai aur payloadBytes ka request body pakadta hai
+// producers capacity se overload guna (default 10x) tez submit karte hai
+// unbounded (newFixedThreadPool) vs BoundedExecutor ki har policy:
+//   heap after GC = producers rukne ke baad queue mein jo pada hai uska asli heap
+//   peak heap     = run ke dauraan sampled used heap (garbage bhi shaamil)
+//   submit p99    = execute() kitni der ruka (BLOCK/TIMEOUT mein yahi backpressure hai)
+public class BoundedLoadTest {
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private static final int PRODUCERS = 4;
+
+    public static void main(String[] args) throws InterruptedException {
+        int workers = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int serviceMillis = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        int overload = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        int payloadBytes = args.length > 4 ? Integer.parseInt(args[4]) : 256;
+
+        double capacityPerSecond = workers * 1000.0 / serviceMillis;
+        double offeredPerSecond = capacityPerSecond * overload;
+        System.out.printf("capacity ~%,.0f tasks/s, offered %,.0f tasks/s (%dx), %d s%n", capacityPerSecond,
+                offeredPerSecond, overload, seconds);
+        System.out.printf("%-12s %10s %10s %10s %10s %8s %14s %12s %12s%n", "executor", "offered", "accepted",
+                "rejected", "callerRuns", "peakQ", "heapAfterGC", "peakHeap", "submit p99");
+
+        run("unbounded", Executors.newFixedThreadPool(workers), serviceMillis, seconds, offeredPerSecond,
+                payloadBytes);
+        for (BoundedExecutor.Policy policy : BoundedExecutor.Policy.values()) {
+            BoundedExecutor executor = new BoundedExecutor(workers, workers * 64, policy, 5, TimeUnit.MILLISECONDS);
+            run(policy.name().toLowerCase(), executor, serviceMillis, seconds, offeredPerSecond, payloadBytes);
+            System.out.println("             " + executor.getReport());
+        }
+    }
+
+    static void run(String name, ExecutorService executor, int serviceMillis, int seconds, double offeredPerSecond,
+            int payloadBytes) throws InterruptedException {
+        System.gc();
+        long baseline = usedHeap();
+        AtomicLong peakHeap = new AtomicLong();
+        LongAdder offered = new LongAdder();
+        LongAdder accepted = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        LatencyHistogram submitLatency = new LatencyHistogram();
+        long intervalNanos = (long) (1e9 * PRODUCERS / offeredPerSecond);
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        Thread sampler = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                peakHeap.accumulateAndGet(usedHeap() - baseline, Math::max);
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.setDaemon(true);
+        sampler.start();
+
+        Thread[] producers = new Thread[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            producers[p] = new Thread(() -> {
+                long next = System.nanoTime();
+                while (System.nanoTime() < end) {
+                    byte[] payload = new byte[payloadBytes];
+                    offered.increment();
+                    long start = System.nanoTime();
+                    try {
+                        executor.execute(() -> handle(payload, serviceMillis));
+                        accepted.increment();
+                    } catch (RejectedExecutionException e) {
+                        rejected.increment();
+                    }
+                    submitLatency.record(System.nanoTime() - start);
+                    // backpressure mein peeche reh gaye to baad mein burst karke catch-up nahi karte
+                    long now = System.nanoTime();
+                    next = Math.max(next + intervalNanos, now);
+                    long wait = next - now;
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+            });
+            producers[p].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        sampler.interrupt();
+        System.gc();
+        long retained = Math.max(0, usedHeap() - baseline);
+
+        int peakQueue = executor instanceof BoundedExecutor bounded ? bounded.peakQueued()
+                : ((ThreadPoolExecutor) executor).getQueue().size();
+        long callerRuns = executor instanceof BoundedExecutor bounded ? bounded.callerRuns() : 0;
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        System.out.printf("%-12s %,10d %,10d %,10d %,10d %,8d %,11.1f MB %,9.1f MB %,9.2f ms%n", name, offered.sum(),
+                accepted.sum(), rejected.sum(), callerRuns, peakQueue, retained / 1048576.0,
+                peakHeap.get() / 1048576.0, submitLatency.percentile(99) / 1e6);
+    }
+
+    private static void handle(byte[] payload, int serviceMillis) {
+        try {
+            payload[0]++;
+            Thread.sleep(serviceMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long usedHeap() {
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+}
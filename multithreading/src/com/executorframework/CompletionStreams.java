@@ -0,0 +1,89 @@
+package com.executorframework;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// invokeAll submission ke order mein futures deta hai, ek slow callable sabko rok deta hai
+// yahan results jis order mein complete hote hai usi order mein milte hai (ExecutorCompletionService ki queue se)
+public final class CompletionStreams {
+
+    private CompletionStreams() {
+    }
+
+    // har next() agla complete hua result deta hai (zaroorat ho to wait karta hai)
+    // koi task fail hua to next() CompletionException phenkta hai
+    public static <T> Iterator<T> completionOrder(ExecutorService executor, Collection<? extends Callable<T>> tasks) {
+        ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(completion.submit(task));
+        }
+        return new CompletionIterator<>(completion, futures);
+    }
+
+    // Stream version; stream close() karne pe jo tasks abhi bhi chal rahe hai wo cancel
+    // try (Stream<T> results = CompletionStreams.stream(executor, tasks)) { ... }
+    public static <T> Stream<T> stream(ExecutorService executor, Collection<? extends Callable<T>> tasks) {
+        CompletionIterator<T> iterator = (CompletionIterator<T>) completionOrder(executor, tasks);
+        Spliterator<T> spliterator = Spliterators.spliterator(iterator, tasks.size(),
+                Spliterator.ORDERED | Spliterator.SIZED);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::cancelRemaining);
+    }
+
+    private static final class CompletionIterator<T> implements Iterator<T> {
+
+        private final ExecutorCompletionService<T> completion;
+
+        private final List<Future<T>> futures;
+
+        private int remaining;
+
+        CompletionIterator(ExecutorCompletionService<T> completion, List<Future<T>> futures) {
+            this.completion = completion;
+            this.futures = futures;
+            this.remaining = futures.size();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            try {
+                Future<T> done = completion.take();
+                remaining--;
+                return done.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelRemaining();
+                throw new CompletionException(e);
+            } catch (ExecutionException e) {
+                throw new CompletionException(e.getCause());
+            }
+        }
+
+        void cancelRemaining() {
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.executorframework;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+// ek jagah se executor banao, mode switch karke compare kar sakte hai
+// FIXED     -> Executors.newFixedThreadPool(n), n platform threads (har ek OS thread)
+// FORK_JOIN -> ForkJoinPool(n), work-stealing; CPU wale kaam ke liye achha,
+//              lekin Thread.sleep jaisa blocking kaam bhi ek worker ko pakad ke rakhta hai
+// VIRTUAL   -> har task ka apna virtual thread (Java 21), blocking pe carrier thread chhod deta hai
+//              isliye hazaaron sleep karne wale tasks ek saath chal sakte hai; n ignore hota hai
+// BOUNDED   -> BoundedExecutor: n threads, queue n * 64 tak, bhari ho to submit karne wala rukta hai
+public final class ExecutorFactory {
+
+    public enum Mode {
+        FIXED, FORK_JOIN, VIRTUAL, BOUNDED
+    }
+
+    private ExecutorFactory() {
+    }
+
+    public static ExecutorService create(Mode mode, int threads) {
+        switch (mode) {
+            case FIXED:
+                return Executors.newFixedThreadPool(threads);
+            case FORK_JOIN:
+                return new ForkJoinPool(threads);
+            case VIRTUAL:
+                return Executors.newVirtualThreadPerTaskExecutor();
+            case BOUNDED:
+                return new BoundedExecutor(threads, threads * 64, BoundedExecutor.Policy.BLOCK);
+            default:
+                throw new IllegalArgumentException("unknown mode " + mode);
+        }
+    }
+
+    // "fixed" / "fork_join" / "virtual" / "bounded"
+    public static Mode parse(String mode) {
+        return Mode.valueOf(mode.trim().toUpperCase());
+    }
+}
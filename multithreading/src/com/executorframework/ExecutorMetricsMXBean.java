@@ -0,0 +1,27 @@
+package com.executorframework;
+
+// JMX se dikhne wale metrics (jconsole / Mission Control mein MBeans tab)
+public interface ExecutorMetricsMXBean {
+
+    long getSubmitted();
+
+    long getCompleted();
+
+    long getRejected();
+
+    long getFailed();
+
+    long getQueued();
+
+    long getActive();
+
+    double getMeanWaitNanos();
+
+    long getP99WaitNanos();
+
+    double getMeanRunNanos();
+
+    long getP99RunNanos();
+
+    String getReport();
+}
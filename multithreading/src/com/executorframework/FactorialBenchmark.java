@@ -0,0 +1,78 @@
+package com.executorframework;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+// java com.executorframework.FactorialBenchmark [n1 n2 ...]
+// naive loop (1 * 2 * 3 ... ek ek karke) vs PRODUCT_TREE vs PRIME_SWING
+// phir batch API vs har factorial alag alag
+public class FactorialBenchmark {
+
+    // isse bade n pe naive loop minutes leta hai
+    private static final int NAIVE_LIMIT = 200_000;
+
+    public static void main(String[] args) {
+        int[] ns = { 10_000, 50_000, 100_000, 300_000 };
+        if (args.length > 0) {
+            ns = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                ns[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        // warm-up
+        BigFactorial.factorial(20_000, BigFactorial.Algorithm.PRODUCT_TREE);
+        BigFactorial.factorial(20_000, BigFactorial.Algorithm.PRIME_SWING);
+        naive(20_000);
+
+        System.out.printf("%-10s %12s %14s %14s%n", "n", "naive (ms)", "tree (ms)", "swing (ms)");
+        for (int n : ns) {
+            long start = System.nanoTime();
+            BigInteger tree = BigFactorial.factorial(n, BigFactorial.Algorithm.PRODUCT_TREE);
+            long treeTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            BigInteger swing = BigFactorial.factorial(n, BigFactorial.Algorithm.PRIME_SWING);
+            long swingTime = System.nanoTime() - start;
+            if (!tree.equals(swing)) {
+                throw new IllegalStateException("algorithms disagree for n=" + n);
+            }
+
+            String naiveTime = "skipped";
+            if (n <= NAIVE_LIMIT) {
+                start = System.nanoTime();
+                BigInteger naive = naive(n);
+                naiveTime = String.format("%,d", millis(System.nanoTime() - start));
+                if (!naive.equals(tree)) {
+                    throw new IllegalStateException("naive disagrees for n=" + n);
+                }
+            }
+            System.out.printf("%-10d %12s %,14d %,14d%n", n, naiveTime, millis(treeTime), millis(swingTime));
+        }
+
+        long start = System.nanoTime();
+        BigInteger[] batch = BigFactorial.factorials(ns);
+        long batchTime = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < ns.length; i++) {
+            if (!BigFactorial.factorial(ns[i]).equals(batch[i])) {
+                throw new IllegalStateException("batch disagrees for n=" + ns[i]);
+            }
+        }
+        long separateTime = System.nanoTime() - start;
+        System.out.printf("batch of %d: %,d ms (separately: %,d ms)%n", ns.length, millis(batchTime),
+                millis(separateTime));
+    }
+
+    static BigInteger naive(int n) {
+        BigInteger result = BigInteger.ONE;
+        for (int i = 2; i <= n; i++) {
+            result = result.multiply(BigInteger.valueOf(i));
+        }
+        return result;
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
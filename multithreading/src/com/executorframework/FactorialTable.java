@@ -0,0 +1,388 @@
+package com.executorframework;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// factorial aur nCr ka cache, taaki har submission pe factorial(number) shuru se compute na ho
+//
+// 0! .. 20!        -> long[] (exact, 21! long mein nahi aata), static table
+// C(n, k), n <= 66 -> long Pascal triangle (C(67, 33) long mein nahi aata)
+// n > 20           -> BigInteger: har segmentSize pe ek checkpoint ((i * segmentSize)!) rakhte hai,
+//                     n! = checkpoint * product(checkpoint+1 .. n); jo values maangi gayi wo memo mein
+// nCr mod p        -> ModTable: fact[] aur invFact[] (Fermat se inverse), lookup O(1)
+//
+// reads lock-free hai (volatile arrays / ConcurrentHashMap), table badhana synchronized hai
+// memory maxBytes tak: checkpoints, memo aur ModTable sab ek hi usedBytes counter pe CAS se jagah reserve karte hai
+// cap pe pehle memo evict hota hai, phir naye entries cache nahi hote (value phir bhi compute hoke milti hai)
+public final class FactorialTable {
+
+    private static final long[] EXACT = new long[21];
+
+    private static final int PASCAL_ROWS = 67;
+
+    private static final long[][] PASCAL = new long[PASCAL_ROWS][];
+
+    static {
+        EXACT[0] = 1;
+        for (int i = 1; i < EXACT.length; i++) {
+            EXACT[i] = EXACT[i - 1] * i;
+        }
+        for (int n = 0; n < PASCAL_ROWS; n++) {
+            PASCAL[n] = new long[n + 1];
+            PASCAL[n][0] = PASCAL[n][n] = 1;
+            for (int k = 1; k < n; k++) {
+                PASCAL[n][k] = PASCAL[n - 1][k - 1] + PASCAL[n - 1][k];
+            }
+        }
+    }
+
+    private static final FactorialTable SHARED = new FactorialTable(64L * 1024 * 1024, 1024);
+
+    private final long maxBytes;
+
+    private final int segmentSize;
+
+    // checkpoints[i] = (i * segmentSize)!
+    private volatile BigInteger[] checkpoints = { BigInteger.ONE };
+
+    private final AtomicLong checkpointBytes = new AtomicLong();
+
+    // agla checkpoint ek baar cap mein nahi aaya to aage bhi nahi aayega (checkpoints sirf badhte hai,
+    // memo pehle hi evict karke dekh liya) -> dobara lock lekar BigInteger multiply karke fenkna bekaar hai
+    private volatile boolean checkpointsCapped;
+
+    private final Map<Integer, BigInteger> memo = new ConcurrentHashMap<>();
+
+    private final AtomicLong memoBytes = new AtomicLong();
+
+    // sab caches ka reserved total, hamesha <= maxBytes
+    private final AtomicLong usedBytes = new AtomicLong();
+
+    private final Map<Long, ModTable> modTables = new ConcurrentHashMap<>();
+
+    public FactorialTable(long maxBytes, int segmentSize) {
+        if (maxBytes <= 0 || segmentSize <= 0) {
+            throw new IllegalArgumentException("maxBytes and segmentSize must be positive");
+        }
+        this.maxBytes = maxBytes;
+        this.segmentSize = segmentSize;
+    }
+
+    // default table: 64 MB cap, har 1024 pe checkpoint
+    public static FactorialTable shared() {
+        return SHARED;
+    }
+
+    public static long exact(int n) {
+        if (n < 0 || n >= EXACT.length) {
+            throw new ArithmeticException(n + "! does not fit in a long");
+        }
+        return EXACT[n];
+    }
+
+    public static long binomialExact(int n, int k) {
+        if (n < 0 || k < 0 || k > n) {
+            return 0;
+        }
+        if (n >= PASCAL_ROWS) {
+            throw new ArithmeticException("C(" + n + ", " + k + ") may not fit in a long");
+        }
+        return PASCAL[n][k];
+    }
+
+    public BigInteger factorial(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("factorial of negative number: " + n);
+        }
+        if (n < EXACT.length) {
+            return BigInteger.valueOf(EXACT[n]);
+        }
+        BigInteger cached = memo.get(n);
+        if (cached != null) {
+            return cached;
+        }
+
+        int index = ensureCheckpoints(n / segmentSize);
+        int base = index * segmentSize;
+        BigInteger result = checkpoints[index].multiply(BigFactorial.factorialRange(base + 1, n));
+        if (base != n) {
+            remember(n, result);
+        }
+        return result;
+    }
+
+    public BigInteger binomial(int n, int k) {
+        if (n < 0 || k < 0 || k > n) {
+            return BigInteger.ZERO;
+        }
+        if (n < PASCAL_ROWS) {
+            return BigInteger.valueOf(PASCAL[n][k]);
+        }
+        k = Math.min(k, n - k);
+        // C(n, k) = (n-k+1 .. n) / k!  -> pura n! banane se sasta
+        return BigFactorial.factorialRange(n - k + 1, n).divide(factorial(k));
+    }
+
+    // p prime hona chahiye (inverse Fermat se nikalte hai), p < 2^31 taaki a * b long mein aa jaye
+    public ModTable mod(long p) {
+        return modTables.computeIfAbsent(p, modulus -> new ModTable(this, modulus));
+    }
+
+    public long memoryBytes() {
+        return usedBytes.get();
+    }
+
+    public String memoryReport() {
+        long modBytes = 0;
+        for (ModTable table : modTables.values()) {
+            modBytes += table.memoryBytes();
+        }
+        return String.format("checkpoints=%d (%,d bytes) memo=%d (%,d bytes) modTables=%d (%,d bytes) used=%,d"
+                + " cap=%,d bytes", checkpoints.length, checkpointBytes.get(), memo.size(), memoBytes.get(),
+                modTables.size(), modBytes, usedBytes.get(), maxBytes);
+    }
+
+    // wanted index tak checkpoints banao (cap allow kare to); jo sabse bada available hai wo index lautao
+    private int ensureCheckpoints(int wanted) {
+        BigInteger[] current = checkpoints;
+        if (wanted < current.length) {
+            return wanted;
+        }
+        if (checkpointsCapped) {
+            return current.length - 1;
+        }
+        synchronized (this) {
+            current = checkpoints;
+            if (wanted < current.length) {
+                return wanted;
+            }
+            if (checkpointsCapped) {
+                return current.length - 1;
+            }
+            BigInteger[] extended = Arrays.copyOf(current, wanted + 1);
+            int last = current.length - 1;
+            for (int i = current.length; i <= wanted; i++) {
+                BigInteger next = extended[i - 1]
+                        .multiply(BigFactorial.factorialRange((i - 1) * segmentSize + 1, i * segmentSize));
+                long size = sizeOf(next);
+                if (!reserve(size)) {
+                    checkpointsCapped = true;
+                    break;
+                }
+                checkpointBytes.addAndGet(size);
+                extended[i] = next;
+                last = i;
+            }
+            checkpoints = Arrays.copyOf(extended, last + 1);
+            return last;
+        }
+    }
+
+    private void remember(int n, BigInteger value) {
+        long size = sizeOf(value);
+        if (!reserve(size)) {
+            return;
+        }
+        if (memo.putIfAbsent(n, value) == null) {
+            memoBytes.addAndGet(size);
+        } else {
+            // kisi aur thread ne pehle daal diya
+            usedBytes.addAndGet(-size);
+        }
+    }
+
+    // size bytes usedBytes pe CAS se reserve; jagah nahi hai to memo se entries hata ke jagah banao
+    // true -> reserve ho gaya (caller ko ya to use karna hai ya usedBytes se wapas ghatana hai)
+    private boolean reserve(long size) {
+        if (size > maxBytes) {
+            return false;
+        }
+        Iterator<Map.Entry<Integer, BigInteger>> it = null;
+        while (true) {
+            long used = usedBytes.get();
+            if (used + size <= maxBytes) {
+                if (usedBytes.compareAndSet(used, used + size)) {
+                    return true;
+                }
+                continue;
+            }
+            if (it == null) {
+                it = memo.entrySet().iterator();
+            }
+            if (!it.hasNext()) {
+                return false;
+            }
+            Map.Entry<Integer, BigInteger> entry = it.next();
+            if (memo.remove(entry.getKey(), entry.getValue())) {
+                long freed = sizeOf(entry.getValue());
+                memoBytes.addAndGet(-freed);
+                usedBytes.addAndGet(-freed);
+            }
+        }
+    }
+
+    private static long sizeOf(BigInteger value) {
+        // magnitude int[] + object headers ka andaza
+        return value.bitLength() / 8 + 48;
+    }
+
+    // nCr mod p, factorial aur inverse factorial tables ke saath
+    // table zaroorat ke hisaab se double hoti hai (max p - 1 tak, uske baad fact[] mod p = 0)
+    // badhne ke bytes owner ke cap se reserve hote hai; jagah nahi to table wahi rehti hai aur
+    // value seedha O(n) mein compute hoti hai (bade p pe poori table kabhi nahi banti)
+    public static final class ModTable {
+
+        private final FactorialTable owner;
+
+        private final long p;
+
+        private static final class Tables {
+
+            final long[] fact;
+
+            final long[] invFact;
+
+            Tables(long[] fact, long[] invFact) {
+                this.fact = fact;
+                this.invFact = invFact;
+            }
+        }
+
+        private volatile Tables tables = new Tables(new long[] { 1 }, new long[] { 1 });
+
+        // owner ke usedBytes mein is table ke liye reserve kiye bytes
+        private volatile long reservedBytes;
+
+        ModTable(FactorialTable owner, long p) {
+            if (p < 2 || p > Integer.MAX_VALUE || !BigInteger.valueOf(p).isProbablePrime(30)) {
+                throw new IllegalArgumentException("modulus must be a prime below 2^31: " + p);
+            }
+            this.owner = owner;
+            this.p = p;
+        }
+
+        public long modulus() {
+            return p;
+        }
+
+        // n! mod p, n < p
+        public long factorial(int n) {
+            Tables t = ensure(n);
+            return t != null ? t.fact[n] : factorialUncached(n);
+        }
+
+        public long inverseFactorial(int n) {
+            Tables t = ensure(n);
+            return t != null ? t.invFact[n] : inverse(factorialUncached(n));
+        }
+
+        // n >= p ho to Lucas theorem: C(n, k) = C(n/p, k/p) * C(n%p, k%p) mod p
+        public long nCr(long n, long k) {
+            if (k < 0 || n < 0 || k > n) {
+                return 0;
+            }
+            if (n < p) {
+                Tables t = ensure((int) n);
+                if (t == null) {
+                    long denominator = factorialUncached((int) k) * factorialUncached((int) (n - k)) % p;
+                    return factorialUncached((int) n) * inverse(denominator) % p;
+                }
+                return t.fact[(int) n] * t.invFact[(int) k] % p * t.invFact[(int) (n - k)] % p;
+            }
+            return nCr(n / p, k / p) * nCr(n % p, k % p) % p;
+        }
+
+        long memoryBytes() {
+            return reservedBytes;
+        }
+
+        private long factorialUncached(int n) {
+            long result = 1;
+            for (int i = 2; i <= n; i++) {
+                result = result * i % p;
+            }
+            return result;
+        }
+
+        private long inverse(long value) {
+            return BigInteger.valueOf(value).modInverse(BigInteger.valueOf(p)).longValue();
+        }
+
+        // null -> cap ki wajah se n tak table nahi ban sakti
+        private Tables ensure(int n) {
+            if (n < 0) {
+                throw new IllegalArgumentException("negative index: " + n);
+            }
+            if (n >= p) {
+                throw new IllegalArgumentException(n + " >= modulus " + p);
+            }
+            Tables current = tables;
+            if (n < current.fact.length) {
+                return current;
+            }
+            synchronized (this) {
+                current = tables;
+                if (n < current.fact.length) {
+                    return current;
+                }
+                int length = current.fact.length;
+                // pehle double karne ki koshish, jagah na ho to sirf n tak
+                int size = (int) Math.min(p, Math.max(n + 1L, length * 2L));
+                if (!owner.reserve((size - length) * 16L)) {
+                    size = n + 1;
+                    if (!owner.reserve((size - length) * 16L)) {
+                        return null;
+                    }
+                }
+                reservedBytes += (size - length) * 16L;
+                long[] fact = Arrays.copyOf(current.fact, size);
+                for (int i = current.fact.length; i < size; i++) {
+                    fact[i] = fact[i - 1] * i % p;
+                }
+                long[] invFact = new long[size];
+                invFact[size - 1] = BigInteger.valueOf(fact[size - 1]).modInverse(BigInteger.valueOf(p)).longValue();
+                for (int i = size - 1; i > 0; i--) {
+                    invFact[i - 1] = invFact[i] * i % p;
+                }
+                tables = new Tables(fact, invFact);
+                return tables;
+            }
+        }
+    }
+
+    // java com.executorframework.FactorialTable [maxN]
+    // pehli baar (warm-up) vs dobara same lookups ka time, aur memory report
+    public static void main(String[] args) {
+        int maxN = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        FactorialTable table = shared();
+
+        long start = System.nanoTime();
+        for (int n = 0; n <= maxN; n += 97) {
+            table.factorial(n);
+        }
+        long cold = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int n = 0; n <= maxN; n += 97) {
+            table.factorial(n);
+        }
+        long warm = System.nanoTime() - start;
+
+        ModTable mod = table.mod(1_000_000_007L);
+        start = System.nanoTime();
+        long check = 0;
+        for (int n = 0; n < 1_000_000; n++) {
+            check += mod.nCr(1_000_000, n);
+        }
+        long modTime = System.nanoTime() - start;
+
+        System.out.printf("factorials up to %,d: cold %,d ms, warm %,d ms%n", maxN, cold / 1_000_000,
+                warm / 1_000_000);
+        System.out.printf("1M nCr mod p lookups: %,d ms (checksum %d)%n", modTime / 1_000_000, check % 1_000_000_007L);
+        System.out.println(table.memoryReport());
+    }
+}
@@ -0,0 +1,161 @@
+package com.executorframework;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.benchmark.LatencyHistogram;
+
+// hedged requests ("The Tail at Scale" wala idea)
+// task bhejo; agar wo ab tak ke latencies ke p95 se zyada der le raha hai to wahi task dobara bhejo
+// jo pehle khatam ho uska result lo, doosre ko cancel kar do
+// sirf ~5% calls duplicate hoti hai lekin slow tail (p99) bahut kam ho jata hai
+// task idempotent hona chahiye (do baar chale to koi nuksaan na ho)
+// histogram mein sirf primary attempt ki latency jaati hai; winner-of-two record karte to
+// hedge ke baad wali chhoti latencies p95 ko neeche kheench leti aur hedge aur jaldi fire hota
+// backup jeet jaye to primary cancel nahi hota: wo pura chal ke apni asli (slow) latency record karta hai
+public class HedgedExecutor {
+
+    private final ExecutorService executor;
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    private final long initialHedgeNanos;
+
+    private final int minSamples;
+
+    private final LongAdder hedges = new LongAdder();
+
+    private final LongAdder hedgeWins = new LongAdder();
+
+    // jab tak minSamples latencies na ho, initialHedgeNanos ke baad hedge
+    public HedgedExecutor(ExecutorService executor, long initialHedge, TimeUnit unit, int minSamples) {
+        this.executor = executor;
+        this.initialHedgeNanos = unit.toNanos(initialHedge);
+        this.minSamples = minSamples;
+    }
+
+    public <T> T call(Callable<T> task) throws InterruptedException, ExecutionException {
+        long start = System.nanoTime();
+        ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        Future<T> primary = completion.submit(() -> {
+            T value = task.call();
+            latencies.record(System.nanoTime() - start);
+            return value;
+        });
+        Future<T> backup = null;
+        boolean primaryRunsOn = false;
+        try {
+            Future<T> winner = completion.poll(hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+            if (winner == null) {
+                backup = completion.submit(task);
+                hedges.increment();
+                winner = completion.take();
+                // pehla fail hua to doosre ka wait karo
+                if (isFailed(winner)) {
+                    winner = completion.take();
+                }
+                if (winner == backup) {
+                    hedgeWins.increment();
+                    primaryRunsOn = true;
+                }
+            }
+            return winner.get();
+        } finally {
+            // haarne wale ko rok do; sirf backup jeeta ho to primary ko sample ke liye chalne do
+            if (!primaryRunsOn) {
+                primary.cancel(true);
+            }
+            if (backup != null) {
+                backup.cancel(true);
+            }
+        }
+    }
+
+    public long hedgeDelayNanos() {
+        return latencies.count() < minSamples ? initialHedgeNanos : latencies.percentile(95);
+    }
+
+    public long hedges() {
+        return hedges.sum();
+    }
+
+    public long hedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    private static boolean isFailed(Future<?> future) {
+        try {
+            future.get();
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+}
+
+// java com.executorframework.HedgedDemo [calls]
+// 1) ExecutorDemo3 jaise callables completion order mein
+// 2) heavy tail wala task (95% -> 10 ms, 5% -> 200 ms), plain vs hedged: p50 / p99 / max
+class HedgedDemo {
+
+    public static void main(String[] args) throws Exception {
+        int calls = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Integer>> tasks = List.of(sleepy(3, 1500), sleepy(1, 200),
+                    sleepy(2, 700));
+            CompletionStreams.stream(executor, tasks).forEach(v -> System.out.println("completed task " + v));
+
+            Callable<Integer> flaky = () -> {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(100) < 5 ? 200 : 10);
+                return 1;
+            };
+
+            LatencyHistogram plain = new LatencyHistogram();
+            for (int i = 0; i < calls; i++) {
+                long start = System.nanoTime();
+                executor.submit(flaky).get();
+                plain.record(System.nanoTime() - start);
+            }
+
+            HedgedExecutor hedged = new HedgedExecutor(executor, 50, TimeUnit.MILLISECONDS, 50);
+            LatencyHistogram hedgedLatency = new LatencyHistogram();
+            for (int i = 0; i < calls; i++) {
+                long start = System.nanoTime();
+                hedged.call(flaky);
+                hedgedLatency.record(System.nanoTime() - start);
+            }
+
+            print("plain", plain);
+            print("hedged", hedgedLatency);
+            System.out.printf("hedges fired %d (%.1f%%), backup won %d, hedge delay %.1f ms%n", hedged.hedges(),
+                    100.0 * hedged.hedges() / calls, hedged.hedgeWins(), hedged.hedgeDelayNanos() / 1e6);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Callable<Integer> sleepy(int id, long millis) {
+        return () -> {
+            Thread.sleep(millis);
+            return id;
+        };
+    }
+
+    private static void print(String name, LatencyHistogram histogram) {
+        System.out.printf("%-7s p50=%6.1f ms p99=%6.1f ms max=%6.1f ms%n", name, histogram.percentile(50) / 1e6,
+                histogram.percentile(99) / 1e6, histogram.max() / 1e6);
+    }
+}
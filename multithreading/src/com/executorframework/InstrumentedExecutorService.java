@@ -0,0 +1,293 @@
+package com.executorframework;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.benchmark.LatencyHistogram;
+
+// kisi bhi ExecutorService ke upar decorator
+// har task ke liye:
+//   wait = enqueue se start tak (queue mein kitna ruka)
+//   run  = start se finish tak
+// dono lock-free LatencyHistogram mein; submitted/started/completed LongAdder mein
+// queued = submitted - started - drained (shutdownNow ne queue se nikaale), active = started - finished
+//
+// submit/invokeAll/invokeAny sab AbstractExecutorService se execute() pe aate hai,
+// isliye sirf execute() mein task wrap karna kaafi hai
+public class InstrumentedExecutorService extends AbstractExecutorService implements ExecutorMetricsMXBean {
+
+    private final ExecutorService delegate;
+
+    private final String name;
+
+    private final LatencyHistogram waitTimes = new LatencyHistogram();
+
+    private final LatencyHistogram runTimes = new LatencyHistogram();
+
+    private final LongAdder submitted = new LongAdder();
+
+    private final LongAdder started = new LongAdder();
+
+    private final LongAdder completed = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    // shutdownNow ne queue se nikaal ke caller ko lautaaye, kabhi start nahi honge
+    private final LongAdder drained = new LongAdder();
+
+    private ScheduledExecutorService reporter;
+
+    private ObjectName objectName;
+
+    public InstrumentedExecutorService(ExecutorService delegate, String name) {
+        this.delegate = delegate;
+        this.name = name;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        long enqueuedAt = System.nanoTime();
+        submitted.increment();
+        try {
+            delegate.execute(new InstrumentedTask(command, enqueuedAt));
+        } catch (RejectedExecutionException e) {
+            submitted.decrement();
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    // JMX pe "com.executorframework:type=InstrumentedExecutor,name=<name>" register
+    public InstrumentedExecutorService registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            objectName = new ObjectName("com.executorframework:type=InstrumentedExecutor,name=" + name);
+            server.registerMBean(this, objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("could not register " + name, e);
+        }
+        return this;
+    }
+
+    // har period pe report System.out pe
+    public synchronized InstrumentedExecutorService startReporting(long period, TimeUnit unit) {
+        if (reporter == null) {
+            reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, name + "-metrics");
+                t.setDaemon(true);
+                return t;
+            });
+            reporter.scheduleAtFixedRate(() -> System.out.println(getReport()), period, period, unit);
+        }
+        return this;
+    }
+
+    @Override
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    @Override
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    @Override
+    public long getQueued() {
+        return Math.max(0, submitted.sum() - started.sum() - drained.sum());
+    }
+
+    @Override
+    public long getActive() {
+        return Math.max(0, started.sum() - completed.sum() - failed.sum());
+    }
+
+    @Override
+    public double getMeanWaitNanos() {
+        return waitTimes.mean();
+    }
+
+    @Override
+    public long getP99WaitNanos() {
+        return waitTimes.percentile(99);
+    }
+
+    @Override
+    public double getMeanRunNanos() {
+        return runTimes.mean();
+    }
+
+    @Override
+    public long getP99RunNanos() {
+        return runTimes.percentile(99);
+    }
+
+    public LatencyHistogram waitTimes() {
+        return waitTimes;
+    }
+
+    public LatencyHistogram runTimes() {
+        return runTimes;
+    }
+
+    @Override
+    public String getReport() {
+        return String.format("[%s] submitted=%d completed=%d failed=%d rejected=%d queued=%d active=%d"
+                + " | wait p50=%,dns p99=%,dns max=%,dns | run p50=%,dns p99=%,dns max=%,dns", name,
+                getSubmitted(), getCompleted(), getFailed(), getRejected(), getQueued(), getActive(),
+                waitTimes.percentile(50), waitTimes.percentile(99), waitTimes.max(), runTimes.percentile(50),
+                runTimes.percentile(99), runTimes.max());
+    }
+
+    @Override
+    public void shutdown() {
+        stopReporting();
+        delegate.shutdown();
+    }
+
+    // delegate hamare wrappers lautata hai; caller ko uske apne submit kiye tasks wapas milne chahiye
+    @Override
+    public List<Runnable> shutdownNow() {
+        stopReporting();
+        List<Runnable> pending = delegate.shutdownNow();
+        List<Runnable> unwrapped = new ArrayList<>(pending.size());
+        for (Runnable task : pending) {
+            if (task instanceof InstrumentedTask instrumented) {
+                drained.increment();
+                unwrapped.add(instrumented.command);
+            } else {
+                unwrapped.add(task);
+            }
+        }
+        return unwrapped;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    // execute() ka wrapper: wait/run time aur counters
+    private final class InstrumentedTask implements Runnable {
+
+        final Runnable command;
+
+        final long enqueuedAt;
+
+        InstrumentedTask(Runnable command, long enqueuedAt) {
+            this.command = command;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            started.increment();
+            waitTimes.record(startedAt - enqueuedAt);
+            boolean ok = false;
+            try {
+                command.run();
+                ok = true;
+            } finally {
+                runTimes.record(System.nanoTime() - startedAt);
+                if (ok) {
+                    completed.increment();
+                } else {
+                    failed.increment();
+                }
+            }
+        }
+    }
+
+    private synchronized void stopReporting() {
+        if (reporter != null) {
+            reporter.shutdownNow();
+            reporter = null;
+        }
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (JMException e) {
+                // pehle hi hat gaya
+            }
+            objectName = null;
+        }
+    }
+}
+
+// java com.executorframework.InstrumentedExecutorDemo [tasks]
+// 1) ExecutorDemo3 jaise sleeping callables, report ke saath
+// 2) overhead: khaali tasks plain executor vs instrumented, per task kitne ns extra
+class InstrumentedExecutorDemo {
+
+    public static void main(String[] args) throws Exception {
+        int tasks = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        InstrumentedExecutorService executor = new InstrumentedExecutorService(Executors.newFixedThreadPool(3),
+                "demo").registerMBean().startReporting(500, TimeUnit.MILLISECONDS);
+        for (int i = 1; i <= 9; i++) {
+            int taskId = i;
+            executor.submit(() -> {
+                Thread.sleep(300);
+                return taskId;
+            });
+        }
+        Thread.sleep(1500);
+        System.out.println(executor.getReport());
+        executor.shutdown();
+
+        // warm-up, phir measure
+        runEmpty(Executors.newSingleThreadExecutor(), tasks / 10);
+        runEmpty(new InstrumentedExecutorService(Executors.newSingleThreadExecutor(), "warmup"), tasks / 10);
+        long plain = runEmpty(Executors.newSingleThreadExecutor(), tasks);
+        long instrumented = runEmpty(new InstrumentedExecutorService(Executors.newSingleThreadExecutor(), "overhead"),
+                tasks);
+        System.out.printf("plain: %,d ns/task, instrumented: %,d ns/task, overhead: %,d ns/task%n", plain / tasks,
+                instrumented / tasks, (instrumented - plain) / tasks);
+    }
+
+    private static long runEmpty(ExecutorService executor, int tasks) throws InterruptedException {
+        long start = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,141 @@
+package com.executorframework;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// java com.executorframework.PartitionedAccountBenchmark [threads] [accounts] [opsPerThread] [uniform|hot] [lanes]
+//
+// per-account withdrawals do tareeke se:
+//   lock        -> BankAccount.withdrawalUsingLock jaisa: har account ka apna ReentrantLock, tryLock(1000 ms)
+//                  (print aur Thread.sleep(3000) ke bina)
+//   partitioned -> PartitionedExecutor, key = account id; balance plain int, sirf lane ka thread chhoota hai
+// hot = aadhe withdrawals account 0 pe; lane report mein us lane ki depth / wait dikhegi
+// itne chhote kaam pe lane tak task bhejne ka kharcha (allocation + queue handoff) lock se zyada hota hai;
+// partitioned tab jeetta hai jab account pe kaam lamba ho ya caller ko block nahi hona ho
+public class PartitionedAccountBenchmark {
+
+    private static final int INITIAL_BALANCE = Integer.MAX_VALUE;
+
+    private static final class LockedAccount {
+
+        private final Lock lock = new ReentrantLock();
+
+        private int balance = INITIAL_BALANCE;
+
+        void withdraw(int amount) throws InterruptedException {
+            if (lock.tryLock(1000, TimeUnit.MILLISECONDS)) {
+                try {
+                    if (balance >= amount) {
+                        balance -= amount;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int accounts = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        int opsPerThread = args.length > 2 ? Integer.parseInt(args[2]) : 200_000;
+        boolean hot = args.length > 3 && args[3].equals("hot");
+        int lanes = args.length > 4 ? Integer.parseInt(args[4])
+                : Math.max(2, Runtime.getRuntime().availableProcessors());
+
+        // warm-up
+        runLocked(threads, accounts, opsPerThread / 10, hot);
+        runPartitioned(threads, accounts, opsPerThread / 10, hot, lanes, false);
+
+        long total = (long) threads * opsPerThread;
+        long locked = runLocked(threads, accounts, opsPerThread, hot);
+        long partitioned = runPartitioned(threads, accounts, opsPerThread, hot, lanes, true);
+        System.out.printf("%-12s %,14.0f withdrawals/s%n", "lock", total * 1e9 / locked);
+        System.out.printf("%-12s %,14.0f withdrawals/s (%d lanes)%n", "partitioned", total * 1e9 / partitioned, lanes);
+    }
+
+    static long runLocked(int threads, int accounts, int opsPerThread, boolean hot) throws InterruptedException {
+        LockedAccount[] book = new LockedAccount[accounts];
+        for (int i = 0; i < accounts; i++) {
+            book[i] = new LockedAccount();
+        }
+        Thread[] workers = new Thread[threads];
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    for (int i = 0; i < opsPerThread; i++) {
+                        book[pick(random, accounts, hot)].withdraw(1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long withdrawn = 0;
+        for (LockedAccount account : book) {
+            withdrawn += INITIAL_BALANCE - account.balance;
+        }
+        check("lock", withdrawn, (long) threads * opsPerThread);
+        return elapsed;
+    }
+
+    static long runPartitioned(int threads, int accounts, int opsPerThread, boolean hot, int lanes, boolean report)
+            throws InterruptedException {
+        int[] balances = new int[accounts];
+        Arrays.fill(balances, INITIAL_BALANCE);
+        PartitionedExecutor executor = new PartitionedExecutor(lanes, "accounts");
+        Thread[] producers = new Thread[threads];
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            producers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < opsPerThread; i++) {
+                    int account = pick(random, accounts, hot);
+                    // same account -> same lane, isliye ye read-check-write bina lock ke safe hai
+                    executor.execute(account, () -> {
+                        if (balances[account] >= 1) {
+                            balances[account] -= 1;
+                        }
+                    });
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        executor.close();
+        long elapsed = System.nanoTime() - start;
+
+        long withdrawn = 0;
+        for (int balance : balances) {
+            withdrawn += INITIAL_BALANCE - balance;
+        }
+        check("partitioned", withdrawn, (long) threads * opsPerThread);
+        if (report) {
+            System.out.print(executor.report());
+        }
+        return elapsed;
+    }
+
+    private static int pick(ThreadLocalRandom random, int accounts, boolean hot) {
+        return hot && random.nextBoolean() ? 0 : random.nextInt(accounts);
+    }
+
+    private static void check(String name, long withdrawn, long expected) {
+        if (withdrawn != expected) {
+            throw new IllegalStateException(name + " lost withdrawals: " + withdrawn + " != " + expected);
+        }
+    }
+}
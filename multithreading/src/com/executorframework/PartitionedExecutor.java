@@ -0,0 +1,248 @@
+package com.executorframework;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.benchmark.LatencyHistogram;
+
+// key-ordered executor: key ka hash ek fixed lane chunta hai, har lane ka ek hi worker thread
+// same key ke tasks hamesha same lane pe -> submit order mein, ek ke baad ek chalte hai
+// alag keys alag lanes pe parallel; isliye per-account state pe lock ki zaroorat nahi
+// (state sirf uske lane ka thread chhoota hai, lane ki queue happens-before deti hai)
+//
+// dhyaan: ek hot key apni lane ko hi slow karti hai, baaki lanes pe asar nahi;
+// laneStats() se pata chalta hai kaunsi lane peeche hai
+public class PartitionedExecutor implements AutoCloseable {
+
+    // lane ko band karne ka signal
+    private static final Runnable SHUTDOWN = () -> {
+    };
+
+    private static final class Lane {
+
+        final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+
+        final LongAdder submitted = new LongAdder();
+
+        final AtomicLong maxDepth = new AtomicLong();
+
+        final LatencyHistogram waitTimes = new LatencyHistogram();
+
+        // sirf lane ka worker likhta hai
+        volatile long completed;
+
+        volatile long failed;
+
+        Thread worker;
+    }
+
+    private static final class Task implements Runnable {
+
+        final Runnable command;
+
+        final long enqueuedAt = System.nanoTime();
+
+        Task(Runnable command) {
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            command.run();
+        }
+    }
+
+    // ek lane ka snapshot
+    public static final class LaneStats {
+
+        public final int lane;
+
+        public final long submitted;
+
+        public final long completed;
+
+        public final long failed;
+
+        public final int depth;
+
+        public final long maxDepth;
+
+        public final long p50WaitNanos;
+
+        public final long p99WaitNanos;
+
+        LaneStats(int lane, Lane l) {
+            this.lane = lane;
+            this.submitted = l.submitted.sum();
+            this.completed = l.completed;
+            this.failed = l.failed;
+            this.depth = l.queue.size();
+            this.maxDepth = l.maxDepth.get();
+            this.p50WaitNanos = l.waitTimes.percentile(50);
+            this.p99WaitNanos = l.waitTimes.percentile(99);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("lane %-3d submitted=%,d completed=%,d failed=%d depth=%d maxDepth=%d"
+                    + " wait p50=%,dns p99=%,dns", lane, submitted, completed, failed, depth, maxDepth,
+                    p50WaitNanos, p99WaitNanos);
+        }
+    }
+
+    private final Lane[] lanes;
+
+    private volatile boolean shutdown;
+
+    public PartitionedExecutor(int lanes, String name) {
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("lanes must be positive: " + lanes);
+        }
+        this.lanes = new Lane[lanes];
+        for (int i = 0; i < lanes; i++) {
+            Lane lane = new Lane();
+            String laneName = name + "-lane-" + i;
+            lane.worker = new Thread(() -> work(lane), laneName);
+            this.lanes[i] = lane;
+        }
+        for (Lane lane : this.lanes) {
+            lane.worker.start();
+        }
+    }
+
+    public int lanes() {
+        return lanes.length;
+    }
+
+    // key kis lane pe jaayegi; hashCode ke upar ke bits bhi mila do (HashMap jaisa)
+    public int laneOf(Object key) {
+        int h = key.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), lanes.length);
+    }
+
+    public void execute(Object key, Runnable command) {
+        if (command == null) {
+            throw new NullPointerException("command");
+        }
+        if (shutdown) {
+            throw new RejectedExecutionException("executor is shut down");
+        }
+        Lane lane = lanes[laneOf(key)];
+        Task task = new Task(command);
+        lane.submitted.increment();
+        lane.queue.add(task);
+        lane.maxDepth.accumulateAndGet(lane.queue.size(), Math::max);
+        // ThreadPoolExecutor jaisa recheck: shutdown ke beech mein aaye task ko ya to chalna hai ya reject
+        if (shutdown && lane.queue.remove(task)) {
+            lane.submitted.decrement();
+            throw new RejectedExecutionException("executor is shut down");
+        }
+    }
+
+    public <T> Future<T> submit(Object key, Callable<T> callable) {
+        FutureTask<T> future = new FutureTask<>(callable);
+        execute(key, future);
+        return future;
+    }
+
+    // pehle se queue mein pade tasks chalenge, naye reject
+    public void shutdown() {
+        shutdown = true;
+        for (Lane lane : lanes) {
+            lane.queue.add(SHUTDOWN);
+        }
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Lane lane : lanes) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return !lane.worker.isAlive();
+            }
+            TimeUnit.NANOSECONDS.timedJoin(lane.worker, remaining);
+            if (lane.worker.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    // ExecutorService.close() jaisa: saare lanes khatam hone tak wait; beech mein interrupt aaye to bhi wait
+    // poora karke interrupt flag wapas set (close() InterruptedException nahi phenkta, try-with-resources ke liye)
+    @Override
+    public void close() {
+        shutdown();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (awaitTermination(1, TimeUnit.DAYS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public List<LaneStats> laneStats() {
+        List<LaneStats> stats = new ArrayList<>(lanes.length);
+        for (int i = 0; i < lanes.length; i++) {
+            stats.add(new LaneStats(i, lanes[i]));
+        }
+        return stats;
+    }
+
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        for (LaneStats stats : laneStats()) {
+            report.append(stats).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    private static void work(Lane lane) {
+        while (true) {
+            Runnable next;
+            try {
+                next = lane.queue.take();
+            } catch (InterruptedException e) {
+                // lane thread ko koi bahar se interrupt na kare; flag hata ke chalte raho
+                continue;
+            }
+            if (next == SHUTDOWN) {
+                return;
+            }
+            Task task = (Task) next;
+            lane.waitTimes.record(System.nanoTime() - task.enqueuedAt);
+            try {
+                task.run();
+                lane.completed++;
+            } catch (Throwable e) {
+                // ek task ki galti se lane band nahi honi chahiye (Error bhi: AssertionError, StackOverflowError)
+                // warna us lane ki baaki keys ke tasks hamesha queue mein pade rehte
+                // submit() wala FutureTask khud exception pakad ke future fail karta hai, yahan sirf execute() wale
+                // stack trace default handler se print
+                lane.failed++;
+                Thread current = Thread.currentThread();
+                current.getUncaughtExceptionHandler().uncaughtException(current, e);
+            }
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.executorframework;
 
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public class PracticeExecutor {
 
@@ -25,7 +24,9 @@ public class PracticeExecutor {
 
 
 
-        ExecutorService executor = Executors.newFixedThreadPool(5);
+        // java com.executorframework.PracticeExecutor [fixed|fork_join|virtual|bounded]
+        ExecutorFactory.Mode mode = args.length > 0 ? ExecutorFactory.parse(args[0]) : ExecutorFactory.Mode.FIXED;
+        ExecutorService executor = ExecutorFactory.create(mode, 5);
         for (int i = 1; i <= 5; i++) {
             int taskId = i;
             executor.execute(() -> System.out.println("Task " + taskId + " executed by " + Thread.currentThread().getName()));
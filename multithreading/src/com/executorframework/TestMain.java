@@ -1,13 +1,16 @@
 package com.executorframework;
 
+import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -21,7 +24,7 @@ public class TestMain {
         for (int i = 1; i <= 10; i++) {
             int number = i;
             threads[i - 1] = new Thread(() -> {
-                long result = factorial(number);
+                BigInteger result = BigFactorial.factorial(number);
                 System.out.println("Factorial of " + number + " -> " + result);
             });
             threads[i - 1].start();
@@ -40,6 +43,7 @@ public class TestMain {
 
     }
 
+    // int mein 12! ke baad overflow ho jata hai, bade n ke liye BigFactorial use karo
     public static int factorial(int n) {
         if (n <= 1) {
             return 1;
@@ -54,11 +58,13 @@ class ExecutorServiceDemo {
     public static void main(String[] args) {
         ExecutorService executor = null;
         try {
-            executor = Executors.newFixedThreadPool(10);
+            // newFixedThreadPool ki queue unbounded hai; bounded queue bhari ho to submit karne wala rukta hai
+            executor = ExecutorFactory.create(ExecutorFactory.Mode.BOUNDED, 10);
             for (int i = 1; i <= 10; i++) {
                 int number = i;
                 executor.submit(() -> {
-                    long result = TestMain.factorial(number);
+                    // table se lookup, har submission pe dobara compute nahi
+                    long result = FactorialTable.exact(number);
                     System.out.println("Factorial of " + number + " -> " + result);
                 });
             }
@@ -76,13 +82,18 @@ class ExecutorServiceDemo {
 class ExecutorDemo {
 
     public static void main(String[] args) throws InterruptedException, ExecutionException {
-        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        BoundedExecutor executorService = new BoundedExecutor(1, 16, BoundedExecutor.Policy.BLOCK);
         try {
             Future<Integer> future = executorService.submit(() -> 42);
             System.out.println(future.get());
 
             executorService.shutdown();
-            executorService.submit(() -> System.out.println("Hello"), "successful");
+            try {
+                executorService.submit(() -> System.out.println("Hello"), "successful");
+            } catch (RejectedExecutionException e) {
+                // shutdown ke baad submit reject hota hai; BoundedExecutor isko ginta hai
+                System.out.println(e.getMessage() + " -> " + executorService.getReport());
+            }
         } finally {
             executorService.shutdown();
         }
@@ -126,25 +137,17 @@ class ExecutorDemo3 {
             };
 
             List<Callable<Integer>> ls = Arrays.asList(callable1, callable2, callable3);
-            List<Future<Integer>> futures = null;
-            try {
-                // futures = executorService.invokeAll(ls, 1, TimeUnit.SECONDS);
-                futures = executorService.invokeAll(ls);
-                // Integer ifutures = executorService.invokeAny(ls);
-                // System.out.println(ifutures);
-            } catch (InterruptedException e) {
-                System.out.println(e.getMessage());
-            }
-
-            if (futures != null) {
-                for (Future<Integer> f : futures) {
-                    try {
-                        System.out.println(f.get());
-                    } catch (CancellationException e) {
-                        System.out.println(e);
-                    } catch (InterruptedException e) {
-                        System.out.println(e);
-                    }
+            // invokeAll submission order mein futures deta hai, ek slow task baaki sabko rokta hai
+            // futures = executorService.invokeAll(ls);
+            // Integer ifutures = executorService.invokeAny(ls);
+            // System.out.println(ifutures);
+            // completion order: jo pehle khatam wo pehle
+            Iterator<Integer> results = CompletionStreams.completionOrder(executorService, ls);
+            while (results.hasNext()) {
+                try {
+                    System.out.println(results.next());
+                } catch (CompletionException e) {
+                    System.out.println(e);
                 }
             }
 
@@ -159,7 +162,9 @@ class ExecutorDemo3 {
 class ScheduleExecutorServiceDemo {
 
     public static void main(String[] args) {
-        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+        // "wheel" argument se heap ki jagah TimingWheelScheduler
+        ScheduledExecutorService scheduler = args.length > 0 && "wheel".equals(args[0]) ? new TimingWheelScheduler()
+                : Executors.newScheduledThreadPool(1);
         // scheduler.schedule(()->System.out.println("task executed after 5 seconds delay"), 5, TimeUnit.SECONDS);
         // scheduler.shutdown();
 
@@ -0,0 +1,80 @@
+package com.executorframework;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// java com.executorframework.TimerBenchmark [timers] [cancelPercent]
+// timeouts jaisa pattern: bahut saare timers (1-60 sec delay), zyadatar cancel ho jaate hai
+// TimingWheelScheduler vs ScheduledThreadPoolExecutor (removeOnCancel on, taaki cancel hue tasks heap mein na pade rahe)
+// phir chhote delays pe kitni der se fire hue (accuracy)
+public class TimerBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        int timers = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int cancelPercent = args.length > 1 ? Integer.parseInt(args[1]) : 90;
+
+        ScheduledThreadPoolExecutor heap = new ScheduledThreadPoolExecutor(1);
+        heap.setRemoveOnCancelPolicy(true);
+        report("ScheduledThreadPool", heap, timers, cancelPercent);
+        report("TimingWheel", new TimingWheelScheduler(), timers, cancelPercent);
+
+        accuracy("ScheduledThreadPool", new ScheduledThreadPoolExecutor(1));
+        accuracy("TimingWheel", new TimingWheelScheduler());
+    }
+
+    static void report(String name, ScheduledExecutorService scheduler, int timers, int cancelPercent)
+            throws InterruptedException {
+        Runnable noop = () -> {
+        };
+        // futures ka array bhi memory leta hai, isliye chunks mein schedule + cancel
+        int chunk = 100_000;
+        ScheduledFuture<?>[] futures = new ScheduledFuture<?>[chunk];
+        long scheduleNanos = 0;
+        long cancelNanos = 0;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int done = 0; done < timers; done += chunk) {
+            int n = Math.min(chunk, timers - done);
+            long start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                futures[i] = scheduler.schedule(noop, 1_000 + random.nextInt(59_000), TimeUnit.MILLISECONDS);
+            }
+            scheduleNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                if (i % 100 < cancelPercent) {
+                    futures[i].cancel(false);
+                }
+            }
+            cancelNanos += System.nanoTime() - start;
+        }
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        long cancelled = (long) timers * cancelPercent / 100;
+        System.out.printf("%-20s schedule %,6.0f ns/timer  cancel %,6.0f ns/timer  (%,d timers, %d%% cancelled)%n",
+                name, (double) scheduleNanos / timers, (double) cancelNanos / Math.max(1, cancelled), timers,
+                cancelPercent);
+    }
+
+    static void accuracy(String name, ScheduledExecutorService scheduler) throws InterruptedException {
+        int count = 1_000;
+        AtomicLong totalLateness = new AtomicLong();
+        AtomicLong maxLateness = new AtomicLong();
+        for (int i = 0; i < count; i++) {
+            long delayMillis = 10 + i % 90;
+            long due = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+            scheduler.schedule(() -> {
+                long late = System.nanoTime() - due;
+                totalLateness.addAndGet(late);
+                maxLateness.accumulateAndGet(late, Math::max);
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        }
+        scheduler.shutdown();
+        scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        System.out.printf("%-20s lateness avg %,.0f us, max %,d us%n", name, totalLateness.get() / 1e3 / count,
+                maxLateness.get() / 1_000);
+    }
+}
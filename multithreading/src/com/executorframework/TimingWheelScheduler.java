@@ -0,0 +1,442 @@
+package com.executorframework;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// hierarchical hashed timing wheel (Linux kernel timers / Netty HashedWheelTimer jaisa)
+//
+// newScheduledThreadPool ki DelayedWorkQueue ek binary heap hai: schedule aur cancel O(log n)
+// yahan time ko "ticks" mein baant dete hai aur har level ek ghadi ki sui jaisa wheel hai:
+//   level 0 -> har bucket 1 tick
+//   level 1 -> har bucket wheelSize ticks
+//   level 2 -> har bucket wheelSize^2 ticks ...
+// schedule: task seedha apne bucket ki linked list mein -> O(1)
+// cancel:   doubly linked list se nikalna -> O(1)
+// jab level 0 ek chakkar poora karta hai, level 1 ka agla bucket neeche "cascade" hota hai
+//
+// saare buckets sirf timer thread chhoota hai; dusre threads naye/cancel hue tasks
+// lock-free queues mein daalte hai jo timer thread har tick pe drain karta hai
+// precision = ek tick (default 1 ms)
+public final class TimingWheelScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private final long tickNanos;
+
+    private final int wheelBits;
+
+    private final int mask;
+
+    private final Bucket[][] wheels;
+
+    private final Executor taskExecutor;
+
+    private final Queue<WheelTask<?>> newTasks = new ConcurrentLinkedQueue<>();
+
+    private final Queue<WheelTask<?>> cancelledTasks = new ConcurrentLinkedQueue<>();
+
+    // schedule hue lekin abhi tak chale/cancel nahi hue tasks
+    private final AtomicLong pending = new AtomicLong();
+
+    private final long startNanos;
+
+    private final Thread timer;
+
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    private volatile boolean shutdown;
+
+    private volatile boolean stopNow;
+
+    // sirf timer thread
+    private long currentTick;
+
+    private boolean periodicPurged;
+
+    public TimingWheelScheduler() {
+        this(1, TimeUnit.MILLISECONDS, 512, 4, null);
+    }
+
+    // taskExecutor null ho to tasks timer thread pe hi chalte hai (chhote tasks ke liye theek)
+    public TimingWheelScheduler(long tick, TimeUnit unit, int wheelSize, int levels, Executor taskExecutor) {
+        if (tick <= 0 || wheelSize < 2 || Integer.bitCount(wheelSize) != 1 || levels < 1
+                || Integer.numberOfTrailingZeros(wheelSize) * levels > 62) {
+            throw new IllegalArgumentException("tick > 0, wheelSize power of two and levels * log2(wheelSize) <= 62");
+        }
+        this.tickNanos = unit.toNanos(tick);
+        this.wheelBits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.wheels = new Bucket[levels][wheelSize];
+        for (Bucket[] wheel : wheels) {
+            for (int i = 0; i < wheelSize; i++) {
+                wheel[i] = new Bucket();
+            }
+        }
+        this.taskExecutor = taskExecutor;
+        this.startNanos = System.nanoTime();
+        // daemon nahi, ScheduledThreadPoolExecutor ki tarah shutdown() tak JVM ko zinda rakhta hai
+        this.timer = new Thread(this::runTimer, "timing-wheel");
+        timer.start();
+    }
+
+    // ---------------- scheduling ----------------
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return enqueue(new WheelTask<Void>(Executors.callable(command, null), deadline(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return enqueue(new WheelTask<>(callable, deadline(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+        return enqueue(new WheelTask<Void>(Executors.callable(command, null), deadline(initialDelay, unit),
+                unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay must be positive");
+        }
+        // negative period -> fixed delay (ScheduledThreadPoolExecutor wali convention)
+        return enqueue(new WheelTask<Void>(Executors.callable(command, null), deadline(initialDelay, unit),
+                -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.NANOSECONDS);
+    }
+
+    private long deadline(long delay, TimeUnit unit) {
+        return System.nanoTime() + Math.max(0, unit.toNanos(delay));
+    }
+
+    private <V> WheelTask<V> enqueue(WheelTask<V> task) {
+        // pehle pending badhao, phir shutdown dekho: ulta kiya to beech mein timer "shutdown && pending == 0"
+        // dekh ke band ho sakta hai aur accept hua task kabhi nahi chalta
+        pending.incrementAndGet();
+        if (shutdown) {
+            pending.decrementAndGet();
+            throw new RejectedExecutionException("scheduler is shut down");
+        }
+        newTasks.offer(task);
+        return task;
+    }
+
+    // ---------------- timer thread ----------------
+
+    private void runTimer() {
+        try {
+            while (!stopNow && !(shutdown && pending.get() == 0)) {
+                long tickStart = startNanos + currentTick * tickNanos;
+                long wait = tickStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(this, wait);
+                    continue;
+                }
+                drainNew();
+                drainCancelled();
+                if (shutdown && !periodicPurged) {
+                    purgePeriodic();
+                }
+                cascade();
+                expire(wheels[0][(int) currentTick & mask]);
+                currentTick++;
+            }
+        } finally {
+            terminated.countDown();
+        }
+    }
+
+    private void drainNew() {
+        WheelTask<?> task;
+        while ((task = newTasks.poll()) != null) {
+            if (task.isCancelled() || (shutdown && task.isPeriodic())) {
+                pending.decrementAndGet();
+                continue;
+            }
+            insert(task);
+        }
+    }
+
+    private void drainCancelled() {
+        WheelTask<?> task;
+        while ((task = cancelledTasks.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+                pending.decrementAndGet();
+            }
+        }
+    }
+
+    private void insert(WheelTask<?> task) {
+        long deadlineTick = Math.max(currentTick, ticksOf(task.deadlineNanos));
+        task.deadlineTick = deadlineTick;
+        long delta = deadlineTick - currentTick;
+        for (int level = 0; level < wheels.length; level++) {
+            if (delta >> (wheelBits * (level + 1)) == 0) {
+                wheels[level][(int) (deadlineTick >> (wheelBits * level)) & mask].add(task);
+                return;
+            }
+        }
+        // sabse bade wheel se bhi door: top level ke aakhri bucket mein, cascade pe dobara jagah milegi
+        int top = wheels.length - 1;
+        long topSlot = currentTick >> (wheelBits * top);
+        wheels[top][(int) (topSlot + mask) & mask].add(task);
+    }
+
+    // shutdown ke baad periodic tasks dobara nahi chalte, unko abhi hata do
+    // warna termination unke agle deadline tak atka rahega
+    private void purgePeriodic() {
+        periodicPurged = true;
+        for (Bucket[] wheel : wheels) {
+            for (Bucket bucket : wheel) {
+                WheelTask<?> task = bucket.head;
+                while (task != null) {
+                    WheelTask<?> next = task.next;
+                    if (task.isPeriodic()) {
+                        bucket.remove(task);
+                        task.cancel(false);
+                        pending.decrementAndGet();
+                    }
+                    task = next;
+                }
+            }
+        }
+    }
+
+    // level 0 ne chakkar poora kiya -> upar wale level ka current bucket neeche utaro
+    private void cascade() {
+        int levelsToCascade = 0;
+        for (int level = 1; level < wheels.length; level++) {
+            if ((currentTick & ((1L << (wheelBits * level)) - 1)) != 0) {
+                break;
+            }
+            levelsToCascade = level;
+        }
+        for (int level = levelsToCascade; level >= 1; level--) {
+            Bucket bucket = wheels[level][(int) (currentTick >> (wheelBits * level)) & mask];
+            WheelTask<?> task;
+            while ((task = bucket.poll()) != null) {
+                insert(task);
+            }
+        }
+    }
+
+    private void expire(Bucket bucket) {
+        WheelTask<?> task;
+        while ((task = bucket.poll()) != null) {
+            if (task.isCancelled()) {
+                pending.decrementAndGet();
+                continue;
+            }
+            if (taskExecutor == null) {
+                runTask(task);
+            } else {
+                WheelTask<?> toRun = task;
+                try {
+                    taskExecutor.execute(() -> runTask(toRun));
+                } catch (RejectedExecutionException e) {
+                    toRun.cancel(false);
+                    pending.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void runTask(WheelTask<?> task) {
+        if (!task.isPeriodic()) {
+            task.run();
+            pending.decrementAndGet();
+            return;
+        }
+        if (task.runAndReset() && !shutdown) {
+            task.deadlineNanos = task.period > 0 ? task.deadlineNanos + task.period : System.nanoTime() - task.period;
+            newTasks.offer(task);
+        } else {
+            pending.decrementAndGet();
+        }
+    }
+
+    private long ticksOf(long nanoTime) {
+        long sinceStart = nanoTime - startNanos;
+        return sinceStart <= 0 ? 0 : (sinceStart + tickNanos - 1) / tickNanos;
+    }
+
+    // ---------------- lifecycle ----------------
+
+    // pehle se schedule hue one-shot tasks chalte rahenge, periodic band (ScheduledThreadPoolExecutor jaisa)
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        LockSupport.unpark(timer);
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        stopNow = true;
+        LockSupport.unpark(timer);
+        try {
+            terminated.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Runnable> notRun = new ArrayList<>();
+        for (Bucket[] wheel : wheels) {
+            for (Bucket bucket : wheel) {
+                WheelTask<?> task;
+                while ((task = bucket.poll()) != null) {
+                    if (!task.isCancelled()) {
+                        notRun.add(task);
+                    }
+                }
+            }
+        }
+        WheelTask<?> task;
+        while ((task = newTasks.poll()) != null) {
+            if (!task.isCancelled()) {
+                notRun.add(task);
+            }
+        }
+        pending.set(0);
+        return notRun;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    public long pendingTasks() {
+        return pending.get();
+    }
+
+    // ---------------- internals ----------------
+
+    // doubly linked list, sirf timer thread use karta hai
+    private static final class Bucket {
+
+        WheelTask<?> head;
+
+        WheelTask<?> tail;
+
+        void add(WheelTask<?> task) {
+            task.bucket = this;
+            task.prev = tail;
+            task.next = null;
+            if (tail == null) {
+                head = task;
+            } else {
+                tail.next = task;
+            }
+            tail = task;
+        }
+
+        void remove(WheelTask<?> task) {
+            if (task.prev == null) {
+                head = task.next;
+            } else {
+                task.prev.next = task.next;
+            }
+            if (task.next == null) {
+                tail = task.prev;
+            } else {
+                task.next.prev = task.prev;
+            }
+            task.prev = task.next = null;
+            task.bucket = null;
+        }
+
+        WheelTask<?> poll() {
+            WheelTask<?> task = head;
+            if (task != null) {
+                remove(task);
+            }
+            return task;
+        }
+    }
+
+    private final class WheelTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+
+        // > 0 fixed rate, < 0 fixed delay, 0 one-shot
+        final long period;
+
+        volatile long deadlineNanos;
+
+        // neeche ke fields sirf timer thread
+        long deadlineTick;
+
+        Bucket bucket;
+
+        WheelTask<?> prev;
+
+        WheelTask<?> next;
+
+        WheelTask(Callable<V> callable, long deadlineNanos, long period) {
+            super(callable);
+            this.deadlineNanos = deadlineNanos;
+            this.period = period;
+        }
+
+        boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        protected boolean runAndReset() {
+            return super.runAndReset();
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                // O(1): timer thread agle tick pe bucket se nikal dega
+                cancelledTasks.offer(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
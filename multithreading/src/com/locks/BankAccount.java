@@ -1,60 +1,153 @@
 package com.locks;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 public class BankAccount {
 
-    private int balance = 100;
+    // AtomicInteger isliye taaki lock-free path compareAndSet kar sake
+    // synchronized/lock wale paths bhi isi balance ko use karte hai, lekin monitor/lock CAS path ko nahi rokta
+    // -> balance badalna har path mein withdrawLockFree ke CAS loop se hi (check aur minus ek saath)
+    private final AtomicInteger balance;
 
-    private final Lock lock = new ReentrantLock();
+    private final Lock lock;
 
+    public BankAccount() {
+        this(100);
+    }
+
+    public BankAccount(int initialBalance) {
+        this(initialBalance, new ReentrantLock());
+    }
+
+    // withdrawalUsingLock ka lock, jaise InstrumentedLock
+    public BankAccount(int initialBalance, Lock lock) {
+        this.balance = new AtomicInteger(initialBalance);
+        this.lock = lock;
+    }
+
+    // amount pehle hi check: sleep / lock ke baad withdrawLockFree ka IllegalArgumentException nahi aana chahiye
     public synchronized void wihdraw(int amount) {
+        requirePositive(amount);
 
         System.out.println(Thread.currentThread().getName() + " attempting to withdraw " + amount);
 
-        if (amount <= balance) {
+        if (amount <= balance.get()) {
             System.out.println(Thread.currentThread().getName() + " proceding with withdrawal ");
             try {
                 Thread.sleep(3000);
-            } catch (Exception e) {
+            } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
-            balance -= amount;
-            System.out.println(Thread.currentThread().getName() + " Completed withdrawal ");
+            // sleep ke dauraan lock-free path ne balance ghata diya ho sakta hai, isliye dobara check
+            if (withdrawLockFree(amount)) {
+                System.out.println(Thread.currentThread().getName() + " Completed withdrawal ");
+            } else {
+                System.out.println(Thread.currentThread().getName() + " insufficient balance ");
+            }
         } else {
             System.out.println(Thread.currentThread().getName() + " insufficient balance ");
         }
     }
 
     public void withdrawalUsingLock(int amount) {
+        requirePositive(amount);
         System.out.println(Thread.currentThread().getName() + " attempting to withdraw " + amount);
         try {
             if (lock.tryLock(1000, TimeUnit.MILLISECONDS)) {
-                if (balance >= amount) {
-                    try {
+                try {
+                    if (balance.get() >= amount) {
                         System.out.println(Thread.currentThread().getName() + " proceding with withdrawal ");
                         Thread.sleep(3000);
-                        balance -= amount;
-                        System.out.println(Thread.currentThread().getName() + " Completed withdrawal ");
-                    } catch (InterruptedException e) {
-                    } finally {
-                        lock.unlock();
+                        if (withdrawLockFree(amount)) {
+                            System.out.println(Thread.currentThread().getName() + " Completed withdrawal ");
+                        } else {
+                            System.out.println(Thread.currentThread().getName() + " insufficient balance ");
+                        }
+                    } else {
+                        System.out.println(Thread.currentThread().getName() + " insufficient balance ");
                     }
-
-                } else {
-                    System.out.println(Thread.currentThread().getName() + " insufficient balance ");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    // insufficient balance pe bhi unlock hona chahiye, vrna lock hamesha ke liye atak jata
+                    lock.unlock();
                 }
             }
             else{
                 System.out.println(Thread.currentThread().getName() + " Could not acquire the lock, will try later ");
             }
 
-        } catch (Exception e) {
+        } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
     }
+
+    private static void requirePositive(int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("amount must be positive: " + amount);
+        }
+    }
+
+    // LOCK-FREE PATH
+    // koi lock nahi, balance pe compareAndSet loop
+    // agar beech mein kisi aur ne balance badal diya to CAS fail hoga aur hum naye balance se dobara try karenge
+    // slow kaam (jaise Thread.sleep) CAS ke pehle ya baad mein karo, kabhi bhi balance "pakad" ke nahi baithna
+    public boolean withdrawLockFree(int amount) {
+        requirePositive(amount);
+        while (true) {
+            int current = balance.get();
+            if (amount > current) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - amount)) {
+                return true;
+            }
+        }
+    }
+
+    // Integer.MAX_VALUE se upar jaata to balance negative ho jaata; addExact ArithmeticException phenkta hai
+    // aur balance wahi rehta hai
+    public void depositLockFree(int amount) {
+        requirePositive(amount);
+        while (true) {
+            int current = balance.get();
+            if (balance.compareAndSet(current, Math.addExact(current, amount))) {
+                return;
+            }
+        }
+    }
+
+    // poore batch ke liye ek hi CAS
+    // amounts order mein check hote hai, jo fit nahi hota wo reject (false) ho jata hai
+    // result[i] == true matlab amounts[i] withdraw ho gaya
+    public boolean[] withdrawAll(int[] amounts) {
+        boolean[] accepted = new boolean[amounts.length];
+        while (true) {
+            int current = balance.get();
+            int remaining = current;
+            for (int i = 0; i < amounts.length; i++) {
+                if (amounts[i] <= 0) {
+                    throw new IllegalArgumentException("amount must be positive: " + amounts[i]);
+                }
+                accepted[i] = amounts[i] <= remaining;
+                if (accepted[i]) {
+                    remaining -= amounts[i];
+                }
+            }
+            if (remaining == current || balance.compareAndSet(current, remaining)) {
+                return accepted;
+            }
+        }
+    }
+
+    public int getBalance() {
+        return balance.get();
+    }
 }
 
 class Customer {
@@ -78,6 +171,71 @@ class Customer {
     }
 }
 
+// java com.locks.CustomerLoadDriver <customers> <seconds> <single|batch>
+// har customer random withdrawals karta hai, kabhi kabhi deposit bhi
+// end mein completed withdrawals/sec aur kitne reject hue wo print hota hai
+// deposit ka average (10% x 200) withdrawal ke average (90% x 25) se kam hai, isliye balance dheere dheere
+// khatam hota hai aur insufficient-funds wala path bhi chalta hai; overflow phir bhi ho to gin lete hai
+class CustomerLoadDriver {
+
+    private static final int BATCH_SIZE = 16;
+
+    public static void main(String[] args) throws InterruptedException {
+        int customers = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        boolean batch = args.length > 2 && "batch".equals(args[2]);
+
+        BankAccount bankAccount = new BankAccount(1_000_000);
+        LongAdder completed = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        LongAdder overflows = new LongAdder();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        Runnable customer = () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int[] amounts = new int[BATCH_SIZE];
+            while (System.nanoTime() < deadline) {
+                if (random.nextInt(10) == 0) {
+                    // batch mode mein ek iteration mein BATCH_SIZE withdrawals hote hai, deposit bhi utna bada
+                    try {
+                        bankAccount.depositLockFree(random.nextInt(100, 300) * (batch ? BATCH_SIZE : 1));
+                    } catch (ArithmeticException e) {
+                        overflows.increment();
+                    }
+                    continue;
+                }
+                if (batch) {
+                    for (int i = 0; i < amounts.length; i++) {
+                        amounts[i] = random.nextInt(1, 50);
+                    }
+                    for (boolean ok : bankAccount.withdrawAll(amounts)) {
+                        (ok ? completed : rejected).increment();
+                    }
+                } else if (bankAccount.withdrawLockFree(random.nextInt(1, 50))) {
+                    completed.increment();
+                } else {
+                    rejected.increment();
+                }
+            }
+        };
+
+        Thread[] threads = new Thread[customers];
+        for (int i = 0; i < customers; i++) {
+            threads[i] = new Thread(customer, "Customer " + (i + 1));
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        System.out.printf("mode=%s customers=%d%n", batch ? "batch" : "single", customers);
+        System.out.printf("completed withdrawals/sec: %,.0f%n", completed.sum() / (double) seconds);
+        System.out.printf("rejected withdrawals:      %,d%n", rejected.sum());
+        System.out.printf("overflowed deposits:       %,d%n", overflows.sum());
+        System.out.printf("final balance:             %,d%n", bankAccount.getBalance());
+    }
+}
+
 // 1. Intrinsic
 // These are built into every object in Java.
 // You don't see them, but they're there.
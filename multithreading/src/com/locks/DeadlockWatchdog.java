@@ -0,0 +1,235 @@
+package com.locks;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// background watchdog
+// 1) ThreadMXBean.findDeadlockedThreads() se deadlock (jaise DeadLockExample ka Task1/Task2) pakadta hai
+//    aur cycle ke har thread ka lock, owner aur stack print karta hai
+// 2) jo thread threshold se zyada der se kisi lock (ReentrantLock / synchronized) ka wait kar raha hai
+//    usko "stall" report karta hai, jaise FairnessLockExample mein 3 sec sleep ke time dusre threads
+//
+// overhead: har sample mein watchdog thread ka CPU time naapte hai
+// agar ek sample ka CPU time interval ke budget (default 1%) se zyada hai to interval double kar dete hai
+public class DeadlockWatchdog implements AutoCloseable {
+
+    private static final int STACK_DEPTH = 16;
+
+    // shuru ke samples JIT ki wajah se mehnge hote hai, unpe back-off nahi karte
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    private final long stallThresholdNanos;
+
+    private final double cpuBudget;
+
+    private final Consumer<String> reporter;
+
+    private final ScheduledExecutorService scheduler;
+
+    // threadId -> jis lock pe wait kar raha hai aur kab se
+    private final Map<Long, LockWait> waits = new HashMap<>();
+
+    private long intervalMillis;
+
+    private long startNanos;
+
+    private long cpuNanos;
+
+    private long samples;
+
+    private boolean deadlockReported;
+
+    private static final class LockWait {
+
+        final int lockIdentity;
+
+        final long sinceNanos;
+
+        boolean reported;
+
+        LockWait(int lockIdentity, long sinceNanos) {
+            this.lockIdentity = lockIdentity;
+            this.sinceNanos = sinceNanos;
+        }
+    }
+
+    public DeadlockWatchdog(long intervalMillis, long stallThresholdMillis) {
+        this(intervalMillis, stallThresholdMillis, 0.01, System.out::println);
+    }
+
+    public DeadlockWatchdog(long intervalMillis, long stallThresholdMillis, double cpuBudget,
+            Consumer<String> reporter) {
+        if (intervalMillis <= 0 || stallThresholdMillis <= 0 || cpuBudget <= 0) {
+            throw new IllegalArgumentException("interval, threshold and budget must be positive");
+        }
+        this.intervalMillis = intervalMillis;
+        this.stallThresholdNanos = TimeUnit.MILLISECONDS.toNanos(stallThresholdMillis);
+        this.cpuBudget = cpuBudget;
+        this.reporter = reporter;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "deadlock-watchdog");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public DeadlockWatchdog start() {
+        startNanos = System.nanoTime();
+        scheduler.schedule(this::sampleAndReschedule, intervalMillis, TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    private void sampleAndReschedule() {
+        long cpuBefore = threadBean.getCurrentThreadCpuTime();
+        try {
+            sample();
+        } catch (RuntimeException e) {
+            reporter.accept("watchdog sample failed: " + e);
+        }
+        synchronized (this) {
+            long sampleCpu = threadBean.getCurrentThreadCpuTime() - cpuBefore;
+            cpuNanos += sampleCpu;
+            samples++;
+            // budget se zyada CPU kha rahe hai to kam baar sample karo
+            if (samples > WARMUP_SAMPLES && sampleCpu > cpuBudget * TimeUnit.MILLISECONDS.toNanos(intervalMillis)) {
+                intervalMillis = Math.min(intervalMillis * 2, 60_000);
+            }
+        }
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::sampleAndReschedule, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void sample() {
+        long[] deadlocked = threadBean.findDeadlockedThreads();
+        if (deadlocked != null && !deadlockReported) {
+            deadlockReported = true;
+            reporter.accept(describeDeadlock(deadlocked));
+        } else if (deadlocked == null) {
+            deadlockReported = false;
+        }
+
+        // stack ke bina ThreadInfo sasta hai, stack sirf report karte waqt lete hai
+        long now = System.nanoTime();
+        Map<Long, LockWait> stillWaiting = new HashMap<>();
+        for (ThreadInfo info : threadBean.getThreadInfo(threadBean.getAllThreadIds(), 0)) {
+            if (info == null || !isLockWait(info)) {
+                continue;
+            }
+            int identity = info.getLockInfo().getIdentityHashCode();
+            LockWait wait = waits.get(info.getThreadId());
+            if (wait == null || wait.lockIdentity != identity) {
+                wait = new LockWait(identity, now);
+            }
+            stillWaiting.put(info.getThreadId(), wait);
+            if (!wait.reported && now - wait.sinceNanos >= stallThresholdNanos) {
+                wait.reported = true;
+                reporter.accept(describeStall(info.getThreadId(), now - wait.sinceNanos));
+            }
+        }
+        waits.clear();
+        waits.putAll(stillWaiting);
+    }
+
+    private static boolean isLockWait(ThreadInfo info) {
+        LockInfo lock = info.getLockInfo();
+        if (lock == null) {
+            return false;
+        }
+        switch (info.getThreadState()) {
+            case BLOCKED:
+                return true;
+            case WAITING:
+            case TIMED_WAITING:
+                // ReentrantLock / ReadWriteLock ke AQS sync objects
+                // Condition.await() lock wait nahi hai (thread khud so raha hai), usko chhod do
+                return lock.getClassName().startsWith("java.util.concurrent.locks.")
+                        && !lock.getClassName().endsWith("$ConditionObject");
+            default:
+                return false;
+        }
+    }
+
+    private String describeDeadlock(long[] threadIds) {
+        StringBuilder sb = new StringBuilder("DEADLOCK detected between " + threadIds.length + " threads\n");
+        for (ThreadInfo info : threadBean.getThreadInfo(threadIds, true, true)) {
+            if (info == null) {
+                continue;
+            }
+            sb.append("  \"").append(info.getThreadName()).append("\" waiting for ").append(info.getLockName())
+                    .append(" held by \"").append(info.getLockOwnerName()).append("\"\n");
+            appendStack(sb, info);
+        }
+        return sb.toString();
+    }
+
+    private String describeStall(long threadId, long waitedNanos) {
+        ThreadInfo info = threadBean.getThreadInfo(threadId, STACK_DEPTH);
+        if (info == null) {
+            return "LOCK STALL: thread " + threadId + " (already gone)";
+        }
+        StringBuilder sb = new StringBuilder("LOCK STALL: \"").append(info.getThreadName()).append("\" waiting ")
+                .append(TimeUnit.NANOSECONDS.toMillis(waitedNanos)).append(" ms for ").append(info.getLockName());
+        if (info.getLockOwnerId() != -1) {
+            sb.append(" held by \"").append(info.getLockOwnerName()).append("\"\n");
+            ThreadInfo owner = threadBean.getThreadInfo(info.getLockOwnerId(), STACK_DEPTH);
+            if (owner != null) {
+                appendStack(sb, owner);
+            }
+        } else {
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static void appendStack(StringBuilder sb, ThreadInfo info) {
+        StackTraceElement[] stack = info.getStackTrace();
+        for (int i = 0; i < stack.length && i < STACK_DEPTH; i++) {
+            sb.append("      at ").append(stack[i]).append('\n');
+        }
+    }
+
+    // watchdog thread ka CPU time / start se ab tak ka wall time
+    public synchronized double overhead() {
+        long wall = System.nanoTime() - startNanos;
+        return wall <= 0 ? 0 : (double) cpuNanos / wall;
+    }
+
+    public synchronized long samples() {
+        return samples;
+    }
+
+    public synchronized long intervalMillis() {
+        return intervalMillis;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    // DeadLockExample ko watchdog ke saath chalao, phir FairnessLockExample ke stalls dekho
+    public static void main(String[] args) throws InterruptedException {
+        DeadlockWatchdog watchdog = new DeadlockWatchdog(100, 1000).start();
+
+        DeadLockExample.main(args);
+        FairnessLockExample.main(args);
+
+        Thread.sleep(10_000);
+        System.out.printf("watchdog: %d samples, interval %d ms, CPU overhead %.4f%%%n", watchdog.samples(),
+                watchdog.intervalMillis(), watchdog.overhead() * 100);
+        watchdog.close();
+        // deadlocked threads kabhi khatam nahi honge, isliye exit
+        System.exit(0);
+    }
+}
@@ -5,7 +5,16 @@ import java.util.concurrent.locks.ReentrantLock;
 
 public class FairnessLockExample {
 
-    private final Lock lock = new ReentrantLock(true);
+    private final Lock lock;
+
+    public FairnessLockExample() {
+        this(new ReentrantLock(true));
+    }
+
+    // QueueLocks.create(...) bhi de sakte hai: FIFO, lekin har release pe sab waiters ek lock state pe nahi ladte
+    public FairnessLockExample(Lock lock) {
+        this.lock = lock;
+    }
 
     public void accessResouce() {
         lock.lock();
@@ -22,7 +31,10 @@ public class FairnessLockExample {
     }
 
     public static void main(String[] args) {
-        FairnessLockExample fairnessLockExample = new FairnessLockExample();
+        // java com.locks.FairnessLockExample [mcs|clh|cohort]
+        FairnessLockExample fairnessLockExample = args.length > 0
+                ? new FairnessLockExample(QueueLocks.create(QueueLocks.Kind.valueOf(args[0].toUpperCase())))
+                : new FairnessLockExample();
 
         Runnable task = new Runnable() {
             @Override
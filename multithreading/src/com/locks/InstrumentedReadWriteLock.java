@@ -0,0 +1,41 @@
+package com.locks;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+
+// ReadWriteLock ke dono hisson pe InstrumentedLock, naam "<name>.read" / "<name>.write"
+// read wait zyada hai to writers readers ko rok rahe hai, write wait zyada hai to readers writers ko
+public class InstrumentedReadWriteLock implements ReadWriteLock {
+
+    private final InstrumentedLock readLock;
+
+    private final InstrumentedLock writeLock;
+
+    public InstrumentedReadWriteLock(ReadWriteLock delegate, String name) {
+        this(delegate, name, 256);
+    }
+
+    public InstrumentedReadWriteLock(ReadWriteLock delegate, String name, int sampleEvery) {
+        // fair lock: line mein koi ho to fast path nahi (InstrumentedLock jaisa)
+        BooleanSupplier queued = delegate instanceof ReentrantReadWriteLock rw && rw.isFair() ? rw::hasQueuedThreads
+                : () -> false;
+        this.readLock = new InstrumentedLock(delegate.readLock(), name + ".read", sampleEvery, queued);
+        this.writeLock = new InstrumentedLock(delegate.writeLock(), name + ".write", sampleEvery, queued);
+    }
+
+    @Override
+    public Lock readLock() {
+        return readLock;
+    }
+
+    @Override
+    public Lock writeLock() {
+        return writeLock;
+    }
+
+    public String getReport() {
+        return readLock.getReport() + System.lineSeparator() + writeLock.getReport();
+    }
+}
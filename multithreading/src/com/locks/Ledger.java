@@ -0,0 +1,197 @@
+package com.locks;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+// bahut saare accounts ka ledger
+// har account ka alag BankAccount object (apna lock + apna AtomicInteger) millions mein bahut memory leta hai,
+// isliye accounts ko shards mein baant ke balances primitive long[] mein rakhte hai
+//
+// account id -> shard = id & mask, slot = id >>> shardBits
+//
+// DEADLOCK se bachne ke liye (DeadLockExample wala Pen/Paper problem):
+// transfer hamesha chhote shard index ka lock pehle leta hai, phir bade ka
+// sab threads ek hi order mein lock lete hai to circular wait ban hi nahi sakta
+public class Ledger {
+
+    private static final int SNAPSHOT_OPTIMISTIC_ATTEMPTS = 8;
+
+    private static final class Shard {
+
+        final StampedLock lock = new StampedLock();
+
+        final long[] balances;
+
+        // is shard ke saare balances ka total, transfer ke saath hi update hota hai
+        long total;
+
+        Shard(int accounts, long initialBalance) {
+            balances = new long[accounts];
+            Arrays.fill(balances, initialBalance);
+            total = accounts * initialBalance;
+        }
+    }
+
+    private final Shard[] shards;
+
+    private final int shardBits;
+
+    private final int mask;
+
+    private final int accounts;
+
+    public Ledger(int accounts, long initialBalance) {
+        this(accounts, initialBalance, Runtime.getRuntime().availableProcessors() * 16);
+    }
+
+    public Ledger(int accounts, long initialBalance, int shardCount) {
+        if (accounts <= 0 || shardCount <= 0 || initialBalance < 0) {
+            throw new IllegalArgumentException("invalid ledger size");
+        }
+        int size = Integer.highestOneBit(Math.min(shardCount, accounts));
+        this.shardBits = Integer.numberOfTrailingZeros(size);
+        this.mask = size - 1;
+        this.accounts = accounts;
+        this.shards = new Shard[size];
+        for (int i = 0; i < size; i++) {
+            // shard i mein wo ids hai jinka (id & mask) == i
+            int inShard = (accounts - i + size - 1) / size;
+            shards[i] = new Shard(inShard, initialBalance);
+        }
+    }
+
+    // from ke balance mein amount nahi hai to false
+    public boolean transfer(int from, int to, long amount) {
+        checkAccount(from);
+        checkAccount(to);
+        if (from == to) {
+            throw new IllegalArgumentException("cannot transfer to the same account: " + from);
+        }
+        if (amount <= 0) {
+            throw new IllegalArgumentException("amount must be positive: " + amount);
+        }
+
+        int fromShardIndex = from & mask;
+        int toShardIndex = to & mask;
+        Shard fromShard = shards[fromShardIndex];
+        Shard toShard = shards[toShardIndex];
+        int fromSlot = from >>> shardBits;
+        int toSlot = to >>> shardBits;
+
+        if (fromShard == toShard) {
+            long stamp = fromShard.lock.writeLock();
+            try {
+                if (fromShard.balances[fromSlot] < amount) {
+                    return false;
+                }
+                fromShard.balances[fromSlot] -= amount;
+                fromShard.balances[toSlot] += amount;
+                return true;
+            } finally {
+                fromShard.lock.unlockWrite(stamp);
+            }
+        }
+
+        // global order: chhota index pehle
+        Shard first = fromShardIndex < toShardIndex ? fromShard : toShard;
+        Shard second = first == fromShard ? toShard : fromShard;
+        long firstStamp = first.lock.writeLock();
+        try {
+            long secondStamp = second.lock.writeLock();
+            try {
+                if (fromShard.balances[fromSlot] < amount) {
+                    return false;
+                }
+                fromShard.balances[fromSlot] -= amount;
+                fromShard.total -= amount;
+                toShard.balances[toSlot] += amount;
+                toShard.total += amount;
+                return true;
+            } finally {
+                second.lock.unlockWrite(secondStamp);
+            }
+        } finally {
+            first.lock.unlockWrite(firstStamp);
+        }
+    }
+
+    public long balance(int account) {
+        checkAccount(account);
+        Shard shard = shards[account & mask];
+        int slot = account >>> shardBits;
+        long stamp = shard.lock.tryOptimisticRead();
+        long value = shard.balances[slot];
+        if (shard.lock.validate(stamp)) {
+            return value;
+        }
+        stamp = shard.lock.readLock();
+        try {
+            return shard.balances[slot];
+        } finally {
+            shard.lock.unlockRead(stamp);
+        }
+    }
+
+    // saare shards ka consistent total
+    // pehle optimistic try: har shard ka stamp lo, totals padho, phir saare stamps validate karo
+    // agar beech mein koi transfer hua to dobara; kuch baar fail ho to saare read locks (order mein) lo
+    // read locks sirf writers ko thodi der rokte hai, readers (balance()) chalte rehte hai
+    public long totalBalance() {
+        long[] stamps = new long[shards.length];
+        for (int attempt = 0; attempt < SNAPSHOT_OPTIMISTIC_ATTEMPTS; attempt++) {
+            boolean writerActive = false;
+            for (int i = 0; i < shards.length; i++) {
+                stamps[i] = shards[i].lock.tryOptimisticRead();
+                if (stamps[i] == 0) {
+                    writerActive = true;
+                    break;
+                }
+            }
+            if (writerActive) {
+                Thread.onSpinWait();
+                continue;
+            }
+            long sum = 0;
+            for (Shard shard : shards) {
+                sum += shard.total;
+            }
+            boolean valid = true;
+            for (int i = 0; i < shards.length && valid; i++) {
+                valid = shards[i].lock.validate(stamps[i]);
+            }
+            if (valid) {
+                return sum;
+            }
+        }
+
+        int locked = 0;
+        try {
+            for (; locked < shards.length; locked++) {
+                stamps[locked] = shards[locked].lock.readLock();
+            }
+            long sum = 0;
+            for (Shard shard : shards) {
+                sum += shard.total;
+            }
+            return sum;
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                shards[i].lock.unlockRead(stamps[i]);
+            }
+        }
+    }
+
+    public int accounts() {
+        return accounts;
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    private void checkAccount(int account) {
+        if (account < 0 || account >= accounts) {
+            throw new IllegalArgumentException("no such account: " + account);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.locks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.benchmark.Bench;
+
+// java com.locks.LedgerBenchmark [accounts] [maxThreads] [warmupOps] [measureOps]
+// do tarah ke transfer mix:
+//   uniform -> har account barabar chance
+//   zipf    -> kuch "hot" accounts pe zyada transfers (s = 0.99), jaise real duniya mein popular merchants
+public class LedgerBenchmark {
+
+    // Zipf ranks ki precomputed table, benchmark loop mein sirf ek array lookup
+    static final class Zipf {
+
+        private static final int TABLE_SIZE = 1 << 20;
+
+        private final int[] samples = new int[TABLE_SIZE];
+
+        Zipf(int n, double s, long seed) {
+            double[] cdf = new double[n];
+            double sum = 0;
+            for (int k = 0; k < n; k++) {
+                sum += 1.0 / Math.pow(k + 1, s);
+                cdf[k] = sum;
+            }
+            SplittableRandom random = new SplittableRandom(seed);
+            for (int i = 0; i < TABLE_SIZE; i++) {
+                double u = random.nextDouble() * sum;
+                int k = Arrays.binarySearch(cdf, u);
+                samples[i] = k >= 0 ? k : Math.min(-k - 1, n - 1);
+            }
+        }
+
+        int next(SplittableRandom random) {
+            return samples[random.nextInt(TABLE_SIZE)];
+        }
+    }
+
+    public static List<Bench.Result> run(int accounts, Bench.Config config) throws InterruptedException {
+        List<Bench.Result> results = new ArrayList<>();
+        Zipf zipf = new Zipf(accounts, 0.99, 42);
+        for (int threads : config.threadCounts()) {
+            for (boolean hot : new boolean[] { false, true }) {
+                Ledger ledger = new Ledger(accounts, 1_000);
+                long expectedTotal = ledger.totalBalance();
+                SplittableRandom[] randoms = new SplittableRandom[threads];
+                for (int t = 0; t < threads; t++) {
+                    randoms[t] = new SplittableRandom(t * 31L + 7);
+                }
+                String name = "Ledger.transfer[" + (hot ? "zipf" : "uniform") + "]";
+                results.add(Bench.run(name, threads, config, index -> {
+                    SplittableRandom random = randoms[index];
+                    int from = hot ? zipf.next(random) : random.nextInt(accounts);
+                    int to = hot ? zipf.next(random) : random.nextInt(accounts);
+                    if (from != to) {
+                        ledger.transfer(from, to, 1 + random.nextInt(10));
+                    }
+                }));
+                // transfer paisa banata ya mitata nahi, total wahi rehna chahiye
+                if (ledger.totalBalance() != expectedTotal) {
+                    throw new IllegalStateException(name + " total changed: " + ledger.totalBalance());
+                }
+            }
+        }
+        return results;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int accounts = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        for (Bench.Result result : run(accounts, Bench.Config.fromArgs(args, 1))) {
+            System.out.println(result);
+        }
+    }
+}
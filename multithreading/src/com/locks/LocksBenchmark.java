@@ -0,0 +1,93 @@
+package com.locks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.benchmark.Bench;
+
+// java com.locks.LocksBenchmark [maxThreads] [warmupOps] [measureOps]
+//
+// BankAccount aur FairnessLockExample apne lock ke andar Thread.sleep(3000) karte hai,
+// usko measure karna matlab sirf sleep measure karna, isliye yahan unka wahi lock
+// (monitor / tryLock / fair ReentrantLock) ek chhote balance update ke around measure karte hai
+public class LocksBenchmark {
+
+    private static final class Balance {
+
+        private int balance = Integer.MAX_VALUE;
+
+        private final Lock unfairLock = new ReentrantLock();
+
+        private final Lock fairLock = new ReentrantLock(true);
+
+        // BankAccount.wihdraw jaisa
+        synchronized void withdrawMonitor(int amount) {
+            if (amount <= balance) {
+                balance -= amount;
+            }
+        }
+
+        // BankAccount.withdrawalUsingLock jaisa
+        void withdrawTryLock(int amount) throws InterruptedException {
+            if (unfairLock.tryLock(1000, TimeUnit.MILLISECONDS)) {
+                try {
+                    if (balance >= amount) {
+                        balance -= amount;
+                    }
+                } finally {
+                    unfairLock.unlock();
+                }
+            }
+        }
+
+        // FairnessLockExample.accessResouce jaisa
+        void withdrawFair(int amount) {
+            fairLock.lock();
+            try {
+                if (balance >= amount) {
+                    balance -= amount;
+                }
+            } finally {
+                fairLock.unlock();
+            }
+        }
+    }
+
+    public static List<Bench.Result> run(Bench.Config config) throws InterruptedException {
+        List<Bench.Result> results = new ArrayList<>();
+        for (int threads : config.threadCounts()) {
+            for (ReadWriteCounter.Mode mode : ReadWriteCounter.Mode.values()) {
+                ReadWriteCounter counter = new ReadWriteCounter(mode);
+                // 99% reads, 1% writes
+                results.add(Bench.run("ReadWriteCounter[" + mode + "] 99:1", threads, config, index -> {
+                    if (ThreadLocalRandom.current().nextInt(100) == 0) {
+                        counter.incremenet();
+                    } else {
+                        counter.getCount();
+                    }
+                }));
+            }
+
+            Balance monitor = new Balance();
+            results.add(Bench.run("BankAccount.wihdraw[monitor]", threads, config,
+                    index -> monitor.withdrawMonitor(1)));
+            Balance tryLock = new Balance();
+            results.add(Bench.run("BankAccount.withdrawalUsingLock[tryLock]", threads, config,
+                    index -> tryLock.withdrawTryLock(1)));
+            Balance fair = new Balance();
+            results.add(Bench.run("FairnessLockExample[fair]", threads, config,
+                    index -> fair.withdrawFair(1)));
+        }
+        return results;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        for (Bench.Result result : run(Bench.Config.fromArgs(args, 0))) {
+            System.out.println(result);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.locks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.benchmark.Bench;
+
+// java com.locks.QueueLockBenchmark [maxThreads] [warmupOps] [measureOps]
+// FairnessLockExample wala critical section (bina sleep ke): lock -> counter++ -> unlock
+// unfair / fair ReentrantLock vs MCS / CLH / COHORT queue locks, 2..maxThreads threads
+// har run ke baad counter check: koi increment kho gaya to lock galat hai
+public class QueueLockBenchmark {
+
+    private static final class Guarded {
+
+        private final Lock lock;
+
+        private long counter;
+
+        Guarded(Lock lock) {
+            this.lock = lock;
+        }
+
+        void increment() {
+            lock.lock();
+            try {
+                counter++;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    static Map<String, Lock> locks() {
+        Map<String, Lock> locks = new LinkedHashMap<>();
+        locks.put("ReentrantLock[unfair]", new ReentrantLock());
+        locks.put("ReentrantLock[fair]", new ReentrantLock(true));
+        for (QueueLocks.Kind kind : QueueLocks.Kind.values()) {
+            locks.put("QueueLocks[" + kind + "]", QueueLocks.create(kind));
+        }
+        return locks;
+    }
+
+    public static List<Bench.Result> run(List<Integer> threadCounts, Bench.Config config) throws InterruptedException {
+        List<Bench.Result> results = new ArrayList<>();
+        for (int threads : threadCounts) {
+            for (Map.Entry<String, Lock> entry : locks().entrySet()) {
+                Guarded guarded = new Guarded(entry.getValue());
+                results.add(Bench.run(entry.getKey(), threads, config, index -> guarded.increment()));
+                long expected = (long) threads * (config.warmupOps() + config.measureOps());
+                if (guarded.counter != expected) {
+                    throw new IllegalStateException(entry.getKey() + " lost updates: " + guarded.counter + " != "
+                            + expected);
+                }
+            }
+        }
+        return results;
+    }
+
+    public static List<Bench.Result> run(Bench.Config config) throws InterruptedException {
+        return run(config.threadCounts(), config);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int warmup = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        int measure = args.length > 2 ? Integer.parseInt(args[2]) : 20_000;
+        Bench.Config config = new Bench.Config(maxThreads, warmup, measure);
+
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 2; threads <= maxThreads; threads <<= 1) {
+            threadCounts.add(threads);
+        }
+        for (Bench.Result result : run(threadCounts, config)) {
+            System.out.println(result);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.locks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+
+// FIFO queue locks, ReentrantLock(true) ka alternative
+//
+// MCS    -> har thread apne node pe wait karta hai, release karne wala sirf apne successor ke node ko likhta hai
+// CLH    -> har thread apne predecessor ke node pe wait karta hai (implicit queue, next pointer nahi chahiye)
+// COHORT -> threads ko cohorts mein baanto (NUMA socket jaisa), har cohort ka apna MCS lock + ek global lock
+//           global lock cohort ke andar hi aage pass hota hai (maxPasses tak), isliye cache lines ek hi
+//           jagah rehti hai; poora FIFO nahi, lekin maxPasses ke baad doosre cohort ki baari pakki
+//
+// teeno mein wait local hota hai: har waiter alag node dekhta hai, ek hi state pe sab nahi ladte
+// thoda spin, phir park; release karne wala sirf us waiter ko unpark karta hai jo park hua ho
+//
+// reentrant nahi hai (same thread dobara lock() kare to deadlock), unlock() sirf owner thread kare
+// lockInterruptibly() interrupt sirf queue mein lagne se pehle dekhta hai, newCondition() support nahi
+public final class QueueLocks {
+
+    public enum Kind {
+        MCS, CLH, COHORT
+    }
+
+    // 1 CPU pe spin bekaar hai: jiska wait ho raha hai wo thread chal hi nahi sakta jab tak hum CPU na chhodein
+    static final int SPINS = Runtime.getRuntime().availableProcessors() > 1 ? 256 : 0;
+
+    private QueueLocks() {
+    }
+
+    public static Lock create(Kind kind) {
+        switch (kind) {
+            case MCS:
+                return new McsLock();
+            case CLH:
+                return new ClhLock();
+            case COHORT:
+                return new CohortLock(2, 64);
+            default:
+                throw new IllegalArgumentException("unknown lock " + kind);
+        }
+    }
+
+    static final class Node {
+
+        volatile boolean locked;
+
+        volatile Node next;
+
+        // park hone se pehle waiter yahan apna thread likhta hai
+        volatile Thread waiter;
+    }
+
+    // node.locked false hone tak wait: pehle spin, phir park
+    // waiter (waiter likho, phir locked padho) aur release (locked likho, phir waiter padho) dono volatile hai,
+    // isliye ya to waiter ko locked=false dikhega ya release ko waiter dikhega -> wakeup miss nahi hota
+    static void awaitRelease(Node node) {
+        for (int i = 0; i < SPINS; i++) {
+            if (!node.locked) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        node.waiter = Thread.currentThread();
+        while (node.locked) {
+            LockSupport.park(node);
+        }
+        node.waiter = null;
+    }
+
+    static void release(Node node) {
+        node.locked = false;
+        Thread waiter = node.waiter;
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    static int backoff(int idle) {
+        if (idle < SPINS) {
+            Thread.onSpinWait();
+        } else if (idle < SPINS + 64) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(1_000);
+        }
+        return idle + 1;
+    }
+
+    abstract static class QueueLock implements Lock {
+
+        // queue mein lagne ke baad beech se nikalna (abort) support nahi karte
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            lock();
+        }
+
+        // timeout wala tryLock queue mein nahi lagta, bas tryLock() ko backoff ke saath retry karta hai
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(time);
+            int idle = 0;
+            while (!tryLock()) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    return false;
+                }
+                idle = backoff(idle);
+            }
+            return true;
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException("queue locks do not support conditions");
+        }
+    }
+
+    static final class McsLock extends QueueLock {
+
+        private final AtomicReference<Node> tail = new AtomicReference<>();
+
+        private final ThreadLocal<Node> myNode = ThreadLocal.withInitial(Node::new);
+
+        @Override
+        public void lock() {
+            Node node = myNode.get();
+            node.next = null;
+            node.locked = true;
+            Node pred = tail.getAndSet(node);
+            if (pred != null) {
+                pred.next = node;
+                awaitRelease(node);
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            Node node = myNode.get();
+            node.next = null;
+            node.locked = true;
+            return tail.compareAndSet(null, node);
+        }
+
+        @Override
+        public void unlock() {
+            Node node = myNode.get();
+            Node next = node.next;
+            if (next == null) {
+                if (tail.compareAndSet(node, null)) {
+                    return;
+                }
+                // successor ne tail le liya hai lekin abhi pred.next nahi likha
+                int idle = 0;
+                while ((next = node.next) == null) {
+                    idle = backoff(idle);
+                }
+            }
+            release(next);
+        }
+
+        // sirf lock holder ke liye: koi peeche queue mein hai?
+        boolean hasSuccessor() {
+            return tail.get() != myNode.get();
+        }
+    }
+
+    static final class ClhLock extends QueueLock {
+
+        // shuru mein ek released dummy node
+        private final AtomicReference<Node> tail = new AtomicReference<>(new Node());
+
+        // {mera node, predecessor}; unlock ke baad predecessor ka node reuse karte hai
+        private final ThreadLocal<Node[]> nodes = ThreadLocal.withInitial(() -> new Node[] { new Node(), null });
+
+        @Override
+        public void lock() {
+            Node[] mine = nodes.get();
+            Node node = mine[0];
+            node.locked = true;
+            Node pred = tail.getAndSet(node);
+            awaitRelease(pred);
+            mine[1] = pred;
+        }
+
+        @Override
+        public boolean tryLock() {
+            Node[] mine = nodes.get();
+            Node node = mine[0];
+            Node current = tail.get();
+            if (current.locked) {
+                return false;
+            }
+            node.locked = true;
+            if (!tail.compareAndSet(current, node)) {
+                return false;
+            }
+            mine[1] = current;
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+            Node[] mine = nodes.get();
+            Node node = mine[0];
+            // apna node successor dekh raha hai, isliye agli baar predecessor wala node use karo
+            mine[0] = mine[1];
+            mine[1] = null;
+            release(node);
+        }
+    }
+
+    static final class CohortLock extends QueueLock {
+
+        private static final class Cohort {
+
+            final McsLock local = new McsLock();
+
+            // dono fields sirf local lock ke andar padhe/likhe jaate hai
+            boolean ownsGlobal;
+
+            int passes;
+        }
+
+        private final AtomicBoolean global = new AtomicBoolean();
+
+        private final Cohort[] cohorts;
+
+        private final int maxPasses;
+
+        // JVM NUMA node nahi batata, isliye thread id se cohort chunte hai
+        CohortLock(int cohorts, int maxPasses) {
+            if (cohorts <= 0 || maxPasses <= 0) {
+                throw new IllegalArgumentException("cohorts and maxPasses must be positive");
+            }
+            this.cohorts = new Cohort[cohorts];
+            for (int i = 0; i < cohorts; i++) {
+                this.cohorts[i] = new Cohort();
+            }
+            this.maxPasses = maxPasses;
+        }
+
+        private Cohort cohort() {
+            return cohorts[(int) (Thread.currentThread().threadId() % cohorts.length)];
+        }
+
+        @Override
+        public void lock() {
+            Cohort cohort = cohort();
+            cohort.local.lock();
+            if (!cohort.ownsGlobal) {
+                // global pe har cohort ka sirf ek thread ladta hai
+                int idle = 0;
+                while (!global.compareAndSet(false, true)) {
+                    idle = backoff(idle);
+                }
+                cohort.ownsGlobal = true;
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            Cohort cohort = cohort();
+            if (!cohort.local.tryLock()) {
+                return false;
+            }
+            if (cohort.ownsGlobal || global.compareAndSet(false, true)) {
+                cohort.ownsGlobal = true;
+                return true;
+            }
+            cohort.local.unlock();
+            return false;
+        }
+
+        @Override
+        public void unlock() {
+            Cohort cohort = cohort();
+            if (cohort.passes < maxPasses && cohort.local.hasSuccessor()) {
+                // global apne cohort ke agle thread ko de do
+                cohort.passes++;
+            } else {
+                cohort.passes = 0;
+                cohort.ownsGlobal = false;
+                global.set(false);
+            }
+            cohort.local.unlock();
+        }
+    }
+}
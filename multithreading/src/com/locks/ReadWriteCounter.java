@@ -3,18 +3,53 @@ package com.locks;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 
 public class ReadWriteCounter {
 
-    private int count = 0;
+    // RW_LOCK    -> har read pe readLock (shared cache line pe CAS, chahe writer ho ya na ho)
+    // STAMPED    -> optimistic read, stamp validate karo, race hua tabhi read lock lo
+    // VOLATILE   -> write lock mein likho, read sirf volatile field padhta hai
+    public enum Mode {
+        RW_LOCK, STAMPED, VOLATILE
+    }
+
+    private final Mode mode;
+
+    // volatile isliye taaki VOLATILE mode mein reader bina lock ke latest value dekhe
+    private volatile int count = 0;
 
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock readLock;
 
-    private final Lock readLock = lock.readLock();
+    private final Lock writeLock;
 
-    private final Lock writeLock = lock.writeLock();
+    private final StampedLock stampedLock = new StampedLock();
+
+    public ReadWriteCounter() {
+        this(Mode.RW_LOCK);
+    }
+
+    public ReadWriteCounter(Mode mode) {
+        this(mode, new ReentrantReadWriteLock());
+    }
+
+    // InstrumentedReadWriteLock de ke dekh sakte hai readers/writers kitna wait karte hai
+    public ReadWriteCounter(Mode mode, ReadWriteLock lock) {
+        this.mode = mode;
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+    }
 
     public void incremenet() {
+        if (mode == Mode.STAMPED) {
+            long stamp = stampedLock.writeLock();
+            try {
+                count++;
+            } finally {
+                stampedLock.unlockWrite(stamp);
+            }
+            return;
+        }
         writeLock.lock();
         try {
             count++;
@@ -24,6 +59,14 @@ public class ReadWriteCounter {
     }
 
     public int getCount() {
+        switch (mode) {
+            case STAMPED:
+                return getCountOptimistic();
+            case VOLATILE:
+                return count;
+            default:
+                break;
+        }
         readLock.lock();
         try {
             return count;
@@ -32,6 +75,26 @@ public class ReadWriteCounter {
         }
     }
 
+    private int getCountOptimistic() {
+        // koi lock nahi liya, bas stamp liya
+        long stamp = stampedLock.tryOptimisticRead();
+        int current = count;
+        if (stampedLock.validate(stamp)) {
+            return current;
+        }
+        // beech mein writer aa gaya, ab normal read lock ke saath dobara padho
+        stamp = stampedLock.readLock();
+        try {
+            return count;
+        } finally {
+            stampedLock.unlockRead(stamp);
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
     public static void main(String[] args) {
         ReadWriteCounter counter = new ReadWriteCounter();
 
@@ -67,6 +130,68 @@ public class ReadWriteCounter {
     }
 
 }
+
+// java com.locks.ReadWriteCounterBenchmark <threads> <opsPerThread>
+// har thread reads aur writes mix karta hai, ratio 1:1 se 1000:1 tak
+class ReadWriteCounterBenchmark {
+
+    private static final int[] READS_PER_WRITE = { 1, 10, 100, 1000 };
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int opsPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+
+        System.out.println("threads=" + threads + " ops/thread=" + opsPerThread);
+        System.out.printf("%-8s", "r:w");
+        for (ReadWriteCounter.Mode mode : ReadWriteCounter.Mode.values()) {
+            System.out.printf("%18s", mode);
+        }
+        System.out.println();
+
+        for (int ratio : READS_PER_WRITE) {
+            System.out.printf("%-8s", ratio + ":1");
+            for (ReadWriteCounter.Mode mode : ReadWriteCounter.Mode.values()) {
+                // warm-up
+                run(mode, ratio, threads, opsPerThread);
+                long elapsed = run(mode, ratio, threads, opsPerThread);
+                double opsPerSec = (double) threads * opsPerThread * 1e9 / elapsed;
+                System.out.printf("%,18.0f", opsPerSec);
+            }
+            System.out.println();
+        }
+        System.out.println("(ops/sec)");
+    }
+
+    private static long run(ReadWriteCounter.Mode mode, int readsPerWrite, int threads, int opsPerThread)
+            throws InterruptedException {
+        ReadWriteCounter counter = new ReadWriteCounter(mode);
+        Thread[] workers = new Thread[threads];
+        long[] sink = new long[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers[t] = new Thread(() -> {
+                long sum = 0;
+                for (int i = 0; i < opsPerThread; i++) {
+                    if (i % (readsPerWrite + 1) == 0) {
+                        counter.incremenet();
+                    } else {
+                        sum += counter.getCount();
+                    }
+                }
+                // result kahin store karo taaki JIT reads ko hata na de
+                sink[id] = sum;
+            }, mode + "-" + t);
+        }
+        long start = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return System.nanoTime() - start;
+    }
+}
 // jab read thread read kr rha hoga
 // write lock read krne ka wait krega
 // vo lock release krega
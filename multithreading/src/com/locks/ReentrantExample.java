@@ -5,7 +5,15 @@ import java.util.concurrent.locks.ReentrantLock;
 
 public class ReentrantExample {
 
-    private final Lock lock = new ReentrantLock();
+    private final Lock lock;
+
+    public ReentrantExample() {
+        this(new ReentrantLock());
+    }
+
+    public ReentrantExample(Lock lock) {
+        this.lock = lock;
+    }
 
     public void outerMethod() {
         // lock.lockInterruptibly(); // ismien agar koi new thread aaya to vo isko interupt kr dega
@@ -39,5 +47,11 @@ public class ReentrantExample {
         // phir jab inner ne acquire kra to isse like 
         // pehle main building mein enter hue
         // phir dusre room pe lock acquire kr liya
+
+        // InstrumentedLock bhi reentrant acquire ko ek hi hold ginta hai
+        InstrumentedLock lock = new InstrumentedLock(new ReentrantLock(), "reentrant", 1);
+        new ReentrantExample(lock).outerMethod();
+        System.out.println(lock.getReport());
+        System.out.println(lock.topSites(3));
     }
 }
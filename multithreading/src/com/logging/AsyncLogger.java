@@ -0,0 +1,318 @@
+package com.logging;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// System.out.println har call pe PrintStream ke lock pe synchronize karta hai aur (autoflush pe) write karta hai
+// -> kai threads print karein to sab ek ek karke I/O karte hai
+//
+// yahan har thread ka apna ring buffer (sirf wahi likhta hai, sirf writer padhta hai -> lock-free SPSC)
+// ek background writer saare buffers se lines utha ke ek batch mein likhta hai aur ek baar flush karta hai
+// buffer bhara ho to Policy:
+//   DROP  -> line chhod do, dropped() mein gino; caller kabhi nahi rukta
+//   BLOCK -> writer jagah banaye tab tak backoff (lines nahi khoti)
+//
+// order: ek thread ki lines usi order mein; alag threads ki lines aapas mein kisi bhi order mein
+// har thread (virtual thread bhi) ka apna buffer banta hai, thread khatam hone ke baad writer use hata deta hai
+// idle writer thodi der spin/yield karke park ho jaata hai (CPU nahi khaata); agli line likhne wala use unpark karta hai
+public final class AsyncLogger implements AutoCloseable {
+
+    public enum Policy {
+        DROP, BLOCK
+    }
+
+    // itne chars jama hone pe writer likh deta hai
+    private static final int BATCH_CHARS = 8 * 1024;
+
+    // itne khaali passes ke baad writer park ho jaata hai
+    private static final int IDLE_PASSES = 200;
+
+    private static final class Buffer {
+
+        final Thread owner = Thread.currentThread();
+
+        final String[] slots;
+
+        final int mask;
+
+        // writer ne yahan tak padh liya
+        final AtomicLong head = new AtomicLong();
+
+        // owner ne yahan tak likh diya
+        final AtomicLong tail = new AtomicLong();
+
+        // owner ka head ka purana copy, taaki har line pe head na padhna pade
+        long cachedHead;
+
+        Buffer(int capacity) {
+            this.slots = new String[capacity];
+            this.mask = capacity - 1;
+        }
+    }
+
+    private static final class DefaultHolder {
+
+        static final AsyncLogger OUT = new AsyncLogger(System.out, 1024, Policy.BLOCK);
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(OUT::close, "async-logger-shutdown"));
+        }
+    }
+
+    private final PrintStream target;
+
+    private final int capacity;
+
+    private final Policy policy;
+
+    private final List<Buffer> buffers = new CopyOnWriteArrayList<>();
+
+    private final ThreadLocal<Buffer> local = ThreadLocal.withInitial(this::register);
+
+    private final LongAdder enqueued = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final Thread writer;
+
+    // sirf writer likhta hai
+    private volatile long written;
+
+    private volatile long batches;
+
+    private volatile boolean running = true;
+
+    private volatile boolean closed;
+
+    // close() ka aakhri drain ho gaya; iske baad publish hui line kabhi nahi likhi jaayegi
+    private volatile boolean drained;
+
+    // writer park hai (ya hone wala hai); producers line likhne ke baad dekhte hai aur unpark karte hai
+    private volatile boolean sleeping;
+
+    // capacity = har thread ke buffer mein kitni lines (power of two)
+    public AsyncLogger(PrintStream target, int capacity, Policy policy) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.target = target;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.writer = new Thread(this::drainLoop, "async-logger");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // System.out pe shared logger (BLOCK, demos ki lines nahi khoni chahiye); JVM band hote waqt flush
+    public static AsyncLogger out() {
+        return DefaultHolder.OUT;
+    }
+
+    // false -> DROP policy mein buffer bhara tha (ya logger band ho chuka)
+    public boolean println(String line) {
+        if (closed) {
+            dropped.increment();
+            return false;
+        }
+        if (line == null) {
+            line = "null";
+        }
+        Buffer buffer = local.get();
+        long tail = buffer.tail.get();
+        if (tail - buffer.cachedHead >= capacity) {
+            buffer.cachedHead = buffer.head.get();
+            int idle = 0;
+            while (tail - buffer.cachedHead >= capacity) {
+                if (policy == Policy.DROP || closed) {
+                    dropped.increment();
+                    return false;
+                }
+                idle = backoff(idle);
+                buffer.cachedHead = buffer.head.get();
+            }
+        }
+        buffer.slots[(int) tail & buffer.mask] = line;
+        // volatile set (lazySet nahi): tail ka write sleeping padhne se pehle dikhna chahiye, warna writer
+        // "khaali" dekh ke so jaaye aur hum "jaag raha" dekh ke unpark na karein (lost wakeup)
+        buffer.tail.set(tail + 1);
+        enqueued.increment();
+        if (sleeping) {
+            LockSupport.unpark(writer);
+        }
+        if (closed) {
+            // close() ke saath race: closed padhne aur tail likhne ke beech logger band ho gaya
+            // close() ka aakhri drain hone tak ruko, phir dekho ye line usmein gayi ya nahi
+            int idle = 0;
+            while (!drained) {
+                idle = backoff(idle);
+            }
+            if (buffer.head.get() <= tail) {
+                enqueued.decrement();
+                dropped.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void println(Object value) {
+        println(String.valueOf(value));
+    }
+
+    // ab tak jo bhi println hua wo sab likha jaane tak wait
+    public void flush() {
+        long target = enqueued.sum();
+        int idle = 0;
+        while (written < target && writer.isAlive()) {
+            idle = backoff(idle);
+        }
+    }
+
+    public long written() {
+        return written;
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public long batches() {
+        return batches;
+    }
+
+    // bacha hua sab likh ke writer band; iske baad println drop hota hai (false, dropped() mein gina)
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        running = false;
+        LockSupport.unpark(writer);
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        // writer ke aakhri pass ke baad publish hui lines (closed == false padh chuke producers) yahin likho
+        StringBuilder batch = new StringBuilder();
+        long lines = 0;
+        for (Buffer buffer : buffers) {
+            lines += drain(buffer, batch);
+        }
+        write(batch, lines);
+        drained = true;
+        target.flush();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Buffer register() {
+        Buffer buffer = new Buffer(capacity);
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    private void drainLoop() {
+        StringBuilder batch = new StringBuilder(BATCH_CHARS * 2);
+        long lines = 0;
+        int idle = 0;
+        while (true) {
+            // running pehle padho: band hone ke baad ek aakhri pass, phir exit
+            // (daemon thread lagataar likhta rahe tab bhi close() atakta nahi)
+            boolean stopping = !running;
+            long drained = 0;
+            for (Buffer buffer : buffers) {
+                long n = drain(buffer, batch);
+                drained += n;
+                lines += n;
+                if (batch.length() >= BATCH_CHARS) {
+                    write(batch, lines);
+                    lines = 0;
+                }
+                if (n == 0 && !buffer.owner.isAlive() && buffer.head.get() == buffer.tail.get()) {
+                    buffers.remove(buffer);
+                }
+            }
+            if (stopping) {
+                write(batch, lines);
+                return;
+            }
+            if (drained > 0) {
+                idle = 0;
+                continue;
+            }
+            // kuch naya nahi aaya: jo jama hai wo abhi likh do (latency), phir backoff
+            if (lines > 0) {
+                write(batch, lines);
+                lines = 0;
+            }
+            if (idle < IDLE_PASSES) {
+                idle = backoff(idle);
+                continue;
+            }
+            // lamba idle: park jab tak koi println / close() unpark na kare
+            // sleeping pehle set, phir buffers dobara dekho (println tail pehle likhta hai, sleeping baad mein padhta hai)
+            sleeping = true;
+            if (running && isEmpty()) {
+                LockSupport.park(this);
+            }
+            sleeping = false;
+            idle = 0;
+        }
+    }
+
+    private boolean isEmpty() {
+        for (Buffer buffer : buffers) {
+            if (buffer.head.get() != buffer.tail.get()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long drain(Buffer buffer, StringBuilder batch) {
+        long head = buffer.head.get();
+        long tail = buffer.tail.get();
+        for (long i = head; i < tail; i++) {
+            int index = (int) i & buffer.mask;
+            batch.append(buffer.slots[index]).append(System.lineSeparator());
+            buffer.slots[index] = null;
+        }
+        if (tail != head) {
+            buffer.head.lazySet(tail);
+        }
+        return tail - head;
+    }
+
+    private void write(StringBuilder batch, long lines) {
+        if (batch.length() == 0) {
+            return;
+        }
+        target.print(batch);
+        target.flush();
+        batch.setLength(0);
+        written += lines;
+        batches++;
+    }
+
+    // pehle spin, phir yield, phir park (SpscRingBuffer.backoff jaisa)
+    private static int backoff(int idle) {
+        if (idle < 100) {
+            Thread.onSpinWait();
+        } else if (idle < 200) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(50_000);
+        }
+        return idle + 1;
+    }
+}
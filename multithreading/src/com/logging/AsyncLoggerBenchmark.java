@@ -0,0 +1,45 @@
+package com.logging;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.benchmark.Bench;
+
+// java com.logging.AsyncLoggerBenchmark [maxThreads] [warmupOps] [measureOps]
+//
+// ThreadFun / World jaisa hot loop: har op ek line print karta hai
+// target ek temp file pe autoflush PrintStream hai (console jaisa: har println ek write)
+//   System.out style -> sab threads seedha shared PrintStream.println
+//   async BLOCK/DROP -> AsyncLogger.println, ek writer thread batch mein likhta hai
+// thread ka throughput aur println latency (p99) dekho; DROP mein kitni lines chhoti wo bhi
+public class AsyncLoggerBenchmark {
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        Bench.Config config = Bench.Config.fromArgs(args, 0);
+        Path file = Files.createTempFile("async-logger", ".log");
+        try (PrintStream target = new PrintStream(new FileOutputStream(file.toFile()), true)) {
+            for (int threads : config.threadCounts()) {
+                System.out.println(Bench.run("PrintStream.println", threads, config,
+                        index -> target.println(Thread.currentThread().getName() + "--" + index)));
+
+                for (AsyncLogger.Policy policy : AsyncLogger.Policy.values()) {
+                    AsyncLogger logger = new AsyncLogger(target, 1024, policy);
+                    Bench.Result result = Bench.run("AsyncLogger[" + policy + "]", threads, config,
+                            index -> logger.println(Thread.currentThread().getName() + "--" + index));
+                    long drainStart = System.nanoTime();
+                    logger.close();
+                    long drainMillis = (System.nanoTime() - drainStart) / 1_000_000;
+                    System.out.println(result);
+                    System.out.printf("%-40s written=%,d dropped=%,d batches=%,d (%.0f lines/batch) drain=%d ms%n", "",
+                            logger.written(), logger.dropped(), logger.batches(),
+                            logger.batches() == 0 ? 0.0 : (double) logger.written() / logger.batches(), drainMillis);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.practice;
 
+import com.logging.AsyncLogger;
+
 public class WorldModern implements Runnable {
 
     @Override
     public void run() {
         for (int i = 0; i < 10; i++) {
-            System.out.println(Thread.currentThread().getName());
+            // System.out.println har line pe PrintStream lock leta hai; async logger thread ko nahi rokta
+            AsyncLogger.out().println(Thread.currentThread().getName());
         }
     }
 
@@ -1,14 +1,16 @@
 package com.practice2;
 
+import com.logging.AsyncLogger;
+
 public class MyThread extends Thread {
 
     @Override
     public void run() {
-        System.out.println("STARTED RUNNING LOOP");
+        AsyncLogger.out().println("STARTED RUNNING LOOP");
         for (int i = 0; i < 10; i++) {
-            System.out.println(Thread.currentThread().getName() + "--" + i);
+            AsyncLogger.out().println(Thread.currentThread().getName() + "--" + i);
         }
-        System.out.println("END OF LOOP");
+        AsyncLogger.out().println("END OF LOOP");
         try {
             //Thread.sleep(2000);
         } catch (Exception e) {
@@ -24,6 +26,8 @@ public class MyThread extends Thread {
         Thread.sleep(200);
         System.out.println(t1.getState());
         t1.join();
+        // t1 ki lines async writer ke paas ho sakti hai, pehle unko likh do
+        AsyncLogger.out().flush();
         System.out.println(t1.getState());
     }
 }
@@ -35,6 +39,7 @@ class PracticeJoin {
         t1.start();
 
         t1.join();
+        AsyncLogger.out().flush();
 
         for (int i = 0; i < 10; i++) {
             System.out.println(Thread.currentThread().getName() + "--" + i);
@@ -1,5 +1,7 @@
 package com.practice2;
 
+import com.logging.AsyncLogger;
+
 class MyThreadFun extends Thread {
 
     public MyThreadFun(String name) {
@@ -11,10 +13,11 @@ class MyThreadFun extends Thread {
         try {
             for (int i = 1; i <= 5; i++) {
                 // Thread.sleep(1000);
-                System.out.println(Thread.currentThread().getName() + "--" + i + " Priority " + Thread.currentThread().getPriority());
+                AsyncLogger.out().println(Thread.currentThread().getName() + "--" + i + " Priority " + Thread.currentThread().getPriority());
             }
+            // is loop mein System.out.println pe thread ka saara time PrintStream lock aur I/O mein jaata tha
             while (true) {
-                System.out.println(Thread.currentThread().getName() + "--" + " Priority " + Thread.currentThread().getPriority());
+                AsyncLogger.out().println(Thread.currentThread().getName() + "--" + " Priority " + Thread.currentThread().getPriority());
             }
         } catch (Exception e) {
         }
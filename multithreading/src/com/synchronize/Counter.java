@@ -0,0 +1,72 @@
+package com.synchronize;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class Counter {
+
+    // MONITOR -> har count++ pe object ka lock (synchronized)
+    // CAS     -> ek AtomicInteger, lock nahi but saare threads ek hi cache line pe ladte hai
+    // STRIPED -> increments alag alag padded cells mein, getCount() pe sum
+    enum Mode {
+        MONITOR, CAS, STRIPED
+    }
+
+    private final Mode mode;
+
+    private int count;
+
+    private final AtomicInteger atomicCount;
+
+    private final StripedCounter stripedCount;
+
+    public Counter() {
+        this(Mode.MONITOR);
+    }
+
+    public Counter(Mode mode) {
+        this.mode = mode;
+        this.count = 0;
+        this.atomicCount = mode == Mode.CAS ? new AtomicInteger() : null;
+        this.stripedCount = mode == Mode.STRIPED ? new StripedCounter() : null;
+    }
+
+    public void increment() {
+        switch (mode) {
+            case CAS -> atomicCount.incrementAndGet();
+            case STRIPED -> stripedCount.increment();
+            default -> incrementMonitor();
+        }
+    }
+
+    private synchronized void incrementMonitor() {
+        count++;
+
+        // this section is critical section
+    }
+
+    public void incrementNew() {
+        if (mode != Mode.MONITOR) {
+            increment();
+            return;
+        }
+        synchronized (this) {
+            count++;
+        }
+    }
+
+    public int getCount() {
+        return switch (mode) {
+            case CAS -> atomicCount.get();
+            case STRIPED -> (int) stripedCount.sum();
+            default -> monitorCount();
+        };
+    }
+
+    private synchronized int monitorCount() {
+        return count;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+}
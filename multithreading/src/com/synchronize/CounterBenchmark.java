@@ -0,0 +1,28 @@
+package com.synchronize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.benchmark.Bench;
+
+// java com.synchronize.CounterBenchmark [maxThreads] [warmupOps] [measureOps]
+public class CounterBenchmark {
+
+    public static List<Bench.Result> run(Bench.Config config) throws InterruptedException {
+        List<Bench.Result> results = new ArrayList<>();
+        for (int threads : config.threadCounts()) {
+            for (Counter.Mode mode : Counter.Mode.values()) {
+                Counter counter = new Counter(mode);
+                results.add(Bench.run("Counter.increment[" + mode + "]", threads, config,
+                        index -> counter.increment()));
+            }
+        }
+        return results;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        for (Bench.Result result : run(Bench.Config.fromArgs(args, 0))) {
+            System.out.println(result);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.synchronize;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// LongAdder jaisa counter
+// ek hi count++ pe saare threads ladte hai to har increment pe cache line
+// ek core se dusre core pe bhaagti hai
+// isliye count ko kai cells mein baant dete hai, har thread apne cell pe CAS karta hai
+// aur total chahiye tab saare cells ka sum kar lete hai
+class StripedCounter {
+
+    // padding inheritance se kar rahe hai taaki JVM fields reorder na kar paye
+    // aur har value apni alag cache line (64 bytes) pe rahe -> false sharing nahi hoga
+    static class CellLhsPadding {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    static class CellValue extends CellLhsPadding {
+        volatile long value;
+    }
+
+    static final class Cell extends CellValue {
+        long p11, p12, p13, p14, p15, p16, p17;
+    }
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(CellValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // har thread ka apna probe (hash), collision hone pe isko badal dete hai
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(() -> {
+        int h = (int) (Thread.currentThread().threadId() * 0x9E3779B9L);
+        return new int[] { h == 0 ? 1 : h };
+    });
+
+    private final Cell[] cells;
+
+    private final int mask;
+
+    public StripedCounter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public StripedCounter(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be positive: " + stripes);
+        }
+        // power of two taaki index nikalne ke liye % ki jagah & use ho sake
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        cells = new Cell[size];
+        for (int i = 0; i < size; i++) {
+            cells[i] = new Cell();
+        }
+        mask = size - 1;
+    }
+
+    public void increment() {
+        add(1);
+    }
+
+    public void add(long x) {
+        int[] probe = PROBE.get();
+        int h = probe[0];
+        while (true) {
+            Cell cell = cells[h & mask];
+            long v = cell.value;
+            if (VALUE.compareAndSet(cell, v, v + x)) {
+                probe[0] = h;
+                return;
+            }
+            // kisi aur thread se takkar hui, agli baar dusra cell try karo (xorshift)
+            h ^= h << 13;
+            h ^= h >>> 17;
+            h ^= h << 5;
+        }
+    }
+
+    // sum ke time writers ruke nahi hai, isliye ye ek moving snapshot hai
+    // jab saare threads ruk jaye tab ye exact hota hai
+    public long sum() {
+        long sum = 0;
+        for (Cell cell : cells) {
+            sum += cell.value;
+        }
+        return sum;
+    }
+
+    public int stripes() {
+        return cells.length;
+    }
+}
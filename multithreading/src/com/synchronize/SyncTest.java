@@ -4,45 +4,27 @@ class MyThreadSync extends Thread {
 
     private Counter counter;
 
+    private final int iterations;
+
     public MyThreadSync(Counter counter, String threadName) {
+        this(counter, threadName, 1000);
+    }
+
+    public MyThreadSync(Counter counter, String threadName, int iterations) {
         super(threadName);
         this.counter = counter;
+        this.iterations = iterations;
     }
 
     @Override
     public void run() {
-        for (int i = 0; i < 1000; i++) {
+        for (int i = 0; i < iterations; i++) {
             counter.increment();
         }
     }
 
 }
 
-class Counter {
-
-    private int count;
-
-    public Counter() {
-        this.count = 0;
-    }
-
-    public synchronized void increment() {
-        count++;
-
-        // this section is critical section
-    }
-
-    public void incrementNew() {
-        synchronized (this) {
-            count++;
-        }
-    }
-
-    public int getCount() {
-        return count;
-    }
-}
-
 public class SyncTest {
 
     public static void main(String[] args) throws InterruptedException {
@@ -57,6 +39,44 @@ public class SyncTest {
         t2.join();
 
         System.out.println(c1.getCount());
+
+        // java com.synchronize.SyncTest bench <threads> <incrementsPerThread>
+        if (args.length > 0 && "bench".equals(args[0])) {
+            int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+            int increments = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+            benchmark(threads, increments);
+        }
+    }
+
+    static void benchmark(int threads, int increments) throws InterruptedException {
+        System.out.println("threads=" + threads + " increments/thread=" + increments);
+        for (Counter.Mode mode : Counter.Mode.values()) {
+            // pehla run warm-up ke liye (JIT), dusra measure karte hai
+            runOnce(mode, threads, increments);
+            long elapsed = runOnce(mode, threads, increments);
+            long ops = (long) threads * increments;
+            System.out.printf("%-8s %,15.0f ops/sec (%d ms)%n", mode, ops * 1e9 / elapsed, elapsed / 1_000_000);
+        }
+    }
+
+    private static long runOnce(Counter.Mode mode, int threads, int increments) throws InterruptedException {
+        Counter counter = new Counter(mode);
+        MyThreadSync[] workers = new MyThreadSync[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new MyThreadSync(counter, mode + "-" + i, increments);
+        }
+        long start = System.nanoTime();
+        for (MyThreadSync worker : workers) {
+            worker.start();
+        }
+        for (MyThreadSync worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (counter.getCount() != threads * increments) {
+            throw new IllegalStateException(mode + " lost updates: " + counter.getCount());
+        }
+        return elapsed;
     }
 }
 